@@ -1,5 +1,6 @@
 package com.natrix.account;
 
+import com.natrix.account.cache.AccountsCacheEvictEvent;
 import com.natrix.account.dto.AccountsContactInfoDto;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
@@ -7,6 +8,8 @@ import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 /*@ComponentScans({ @ComponentScan("com.natrix.account.controller") })
@@ -15,6 +18,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication
 @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
 @EnableConfigurationProperties(AccountsContactInfoDto.class)
+@EnableCaching
+@RemoteApplicationEventScan(basePackageClasses = AccountsCacheEvictEvent.class)
 @OpenAPIDefinition(
         info = @Info(
                 title = "Accounts microservice REST API Documentation",
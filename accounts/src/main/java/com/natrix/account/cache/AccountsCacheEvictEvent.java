@@ -0,0 +1,26 @@
+package com.natrix.account.cache;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Bus event telling every account replica to drop the cached lookups for the given mobile numbers.
+ */
+@Getter
+@NoArgsConstructor
+public class AccountsCacheEvictEvent extends RemoteApplicationEvent {
+
+    private List<String> mobileNumbers;
+
+    public AccountsCacheEvictEvent(Object source, String originService, Destination destination,
+                                   List<String> mobileNumbers) {
+
+        super(source, originService, destination);
+        this.mobileNumbers = mobileNumbers;
+    }
+
+}
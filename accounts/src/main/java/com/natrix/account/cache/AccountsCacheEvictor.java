@@ -0,0 +1,87 @@
+package com.natrix.account.cache;
+
+import com.natrix.account.constants.AccountsConstants;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@AllArgsConstructor
+public class AccountsCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // absent with spring.cloud.bus.enabled=false, e.g. a single replica without a broker
+    private final ObjectProvider<BusProperties> busProperties;
+
+    private final ObjectProvider<Destination.Factory> destinationFactory;
+
+    /**
+     * Evicts the cached account lookups for the given mobile numbers on this replica and broadcasts
+     * the eviction over the bus. Inside a transaction both happen only after commit, so no replica
+     * can re-cache the old row in between.
+     *
+     * @param mobileNumbers - Mobile Numbers whose cached lookups became stale
+     */
+    public void evict(String... mobileNumbers) {
+
+        List<String> keys = Arrays.stream(mobileNumbers).filter(Objects::nonNull).distinct().toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAndBroadcast(keys);
+                }
+            });
+        } else {
+            evictAndBroadcast(keys);
+        }
+    }
+
+    /**
+     * @param event - eviction broadcast by this or any other account replica
+     */
+    @EventListener
+    public void onEvict(AccountsCacheEvictEvent event) {
+
+        evictLocal(event.getMobileNumbers());
+    }
+
+    private void evictAndBroadcast(List<String> keys) {
+
+        evictLocal(keys);
+        BusProperties bus = this.busProperties.getIfAvailable();
+        Destination.Factory destinations = this.destinationFactory.getIfAvailable();
+        if (bus != null && destinations != null) {
+            this.applicationEventPublisher.publishEvent(new AccountsCacheEvictEvent(
+                    this, bus.getId(), destinations.getDestination(null), keys));
+        }
+    }
+
+    private void evictLocal(List<String> keys) {
+
+        Cache cache = this.cacheManager.getCache(AccountsConstants.ACCOUNTS_CACHE);
+        if (cache != null && keys != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+
+}
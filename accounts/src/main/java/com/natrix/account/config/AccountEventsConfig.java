@@ -0,0 +1,39 @@
+package com.natrix.account.config;
+
+import com.natrix.account.constants.AccountsConstants;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccountEventsConfig {
+
+    /**
+     * Customer lifecycle events relayed from the outbox, card and loan bind their queues to it.
+     */
+    @Bean
+    public TopicExchange accountEventsExchange() {
+
+        return new TopicExchange(AccountsConstants.ACCOUNT_EVENTS_EXCHANGE);
+    }
+
+    /**
+     * The broker confirms a message no queue is bound for and OutboxRelay deletes its row. The queues of
+     * card and loan are declared here too, with the same arguments, so a deletion relayed before either
+     * of them first started waits in its queue instead of being dropped.
+     */
+    @Bean
+    public Declarables customerDeletedDeclarables(TopicExchange accountEventsExchange) {
+
+        Queue cardQueue = QueueBuilder.durable(AccountsConstants.CARD_CUSTOMER_DELETED_QUEUE).build();
+        Queue loanQueue = QueueBuilder.durable(AccountsConstants.LOAN_CUSTOMER_DELETED_QUEUE).build();
+        return new Declarables(cardQueue, loanQueue,
+                BindingBuilder.bind(cardQueue).to(accountEventsExchange).with(AccountsConstants.CUSTOMER_DELETED),
+                BindingBuilder.bind(loanQueue).to(accountEventsExchange).with(AccountsConstants.CUSTOMER_DELETED));
+    }
+
+}
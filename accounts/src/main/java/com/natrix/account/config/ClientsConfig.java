@@ -0,0 +1,63 @@
+package com.natrix.account.config;
+
+import com.natrix.account.service.client.CardsClient;
+import com.natrix.account.service.client.LoansClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ClientsConfig {
+
+    @Bean
+    public CardsClient cardsClient(ObjectProvider<RestClient.Builder> restClientBuilder,
+                                   @Value("${accounts.clients.cards.url:http://localhost:9000}") String url,
+                                   @Value("${accounts.clients.cards.timeout:800ms}") Duration timeout) {
+
+        return createClient(restClientBuilder, url, timeout, CardsClient.class);
+    }
+
+    @Bean
+    public LoansClient loansClient(ObjectProvider<RestClient.Builder> restClientBuilder,
+                                   @Value("${accounts.clients.loans.url:http://localhost:8090}") String url,
+                                   @Value("${accounts.clients.loans.timeout:800ms}") Duration timeout) {
+
+        return createClient(restClientBuilder, url, timeout, LoansClient.class);
+    }
+
+    /**
+     * Downstream calls mostly wait on the network, so each one gets its own virtual thread.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService clientsExecutor() {
+
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    private static <T> T createClient(ObjectProvider<RestClient.Builder> restClientBuilder, String url, Duration timeout,
+                                      Class<T> clientType) {
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(timeout).build());
+        requestFactory.setReadTimeout(timeout);
+
+        RestClient restClient = restClientBuilder.getIfAvailable(RestClient::builder).clone()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+        return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+                .build()
+                .createClient(clientType);
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.natrix.account.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Fails startup when a derived finder filters on a column that does not lead any index.
+ * Only the first predicate of a finder is checked, that is the column MySQL needs an index
+ * prefix on to avoid a full table scan. {@code @Query} methods are left to review.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class FinderIndexCheck implements ApplicationRunner {
+
+    private final ListableBeanFactory beanFactory;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Repositories repositories = new Repositories(beanFactory);
+        List<String> missing = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                        .getEntityDescriptor(domainType);
+                String table = unquote(persister.getTableName());
+                Set<String> indexed = leadingIndexColumns(metaData, connection.getCatalog(), table);
+
+                for (Method method : information.getQueryMethods()) {
+                    String property = leadingProperty(method, domainType);
+                    if (property == null || property.equals(persister.getIdentifierPropertyName())) {
+                        continue;
+                    }
+                    String column = unquote(persister.getPropertyColumnNames(property)[0]);
+                    if (!indexed.contains(column.toLowerCase(Locale.ROOT))) {
+                        missing.add(String.format("%s.%s filters on %s.%s",
+                                information.getRepositoryInterface().getSimpleName(), method.getName(), table, column));
+                    }
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Derived finders without a leading index, add a migration or set "
+                    + "schema.index-check.enabled=false: " + String.join("; ", missing));
+        }
+        log.info("All derived finders are backed by an index");
+    }
+
+    private static String leadingProperty(Method method, Class<?> domainType) {
+        if (AnnotatedElementUtils.hasAnnotation(method, Query.class)) {
+            return null;
+        }
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), domainType);
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        for (PartTree.OrPart orPart : tree) {
+            for (Part part : orPart) {
+                PropertyPath path = part.getProperty();
+                return path.hasNext() ? null : path.getSegment();
+            }
+        }
+        return null;
+    }
+
+    private static Set<String> leadingIndexColumns(DatabaseMetaData metaData, String catalog, String table)
+            throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, false, true)) {
+            while (rs.next()) {
+                String column = rs.getString("COLUMN_NAME");
+                if (rs.getShort("ORDINAL_POSITION") == 1 && column != null) {
+                    columns.add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static String unquote(String name) {
+        return name.replace("`", "").replace("\"", "");
+    }
+
+}
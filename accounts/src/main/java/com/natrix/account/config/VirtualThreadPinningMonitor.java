@@ -0,0 +1,90 @@
+package com.natrix.account.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event while requests run on virtual threads and
+ * publishes every pinning as the {@code jvm.threads.virtual.pinned} timer.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Timer pinnedTimer;
+
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(PINNED_EVENT).withThreshold(this.threshold).withStackTrace();
+        this.recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        this.recordingStream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+
+        if (this.recordingStream != null) {
+            this.recordingStream.close();
+            this.recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+
+        return this.recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+
+        this.pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+    }
+
+    private static String topFrame(RecordedEvent event) {
+
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+
+}
@@ -6,10 +6,30 @@ public class AccountsConstants {
 
     public static final String ADDRESS = "123 Main Street, New York";
 
+    public static final String ACCOUNTS_CACHE = "accounts";
+
+    public static final int BATCH_SIZE = 50;
+
+    // one customer per mobile number, see V3__lookup_indexes.sql
+    public static final String MOBILE_NUMBER_CONSTRAINT = "uk_customer_mobile_number";
+
+    public static final String ACCOUNT_EVENTS_EXCHANGE = "accounts.events";
+
+    public static final String CUSTOMER_CREATED = "customer.created";
+
+    public static final String CUSTOMER_DELETED = "customer.deleted";
+
+    // consumed by card and loan, declared here as well so no deletion is dropped before they first start
+    public static final String CARD_CUSTOMER_DELETED_QUEUE = "card.customer-deleted";
+
+    public static final String LOAN_CUSTOMER_DELETED_QUEUE = "loan.customer-deleted";
+
     public static final Integer STATUS_201 = 201;
 
     public static final String MESSAGE_201 = "Account created successfully";
 
+    public static final String MESSAGE_201_BATCH = "%d accounts created successfully";
+
     public static final String SUCCESS = "SUCCESS";
 
     public static final String CREATED = "CREATED";
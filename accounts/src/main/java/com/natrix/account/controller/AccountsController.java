@@ -2,10 +2,12 @@ package com.natrix.account.controller;
 
 import com.natrix.account.constants.AccountsConstants;
 import com.natrix.account.dto.AccountsContactInfoDto;
+import com.natrix.account.dto.CustomerDetailsDto;
 import com.natrix.account.dto.CustomerDto;
 import com.natrix.account.dto.ErrorResponseDto;
 import com.natrix.account.dto.ResponseDto;
 import com.natrix.account.service.IAccountsService;
+import com.natrix.account.service.ICustomersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -23,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(
         name = "Accounts Management APIs",
@@ -35,6 +38,8 @@ public class AccountsController {
 
     private final IAccountsService accountsService;
 
+    private final ICustomersService customersService;
+
     private final Environment environment;
 
     private final AccountsContactInfoDto accountsContactInfoDto;
@@ -43,10 +48,12 @@ public class AccountsController {
     private String buildVersion;
 
     public AccountsController(IAccountsService accountsService,
+                              ICustomersService customersService,
                               Environment environment,
                               AccountsContactInfoDto accountsContactInfoDto) {
 
         this.accountsService = accountsService;
+        this.customersService = customersService;
         this.environment = environment;
         this.accountsContactInfoDto = accountsContactInfoDto;
     }
@@ -76,6 +83,28 @@ public class AccountsController {
         );
     }
 
+    @Operation(summary = "Create Accounts in Batch", description = "Create customers and accounts in bulk, e.g. from partner onboarding files")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Accounts created successfully",
+                    content = @Content(schema = @Schema(implementation = ResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Mobile number already registered or repeated in the batch",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/create/batch")
+    public ResponseEntity<ResponseDto> createAccounts(@RequestBody List<@Valid CustomerDto> customerDtos) {
+
+        int created = accountsService.createAccounts(customerDtos);
+
+        return buildSuccessResponse(
+                AccountsConstants.CREATED,
+                AccountsConstants.STATUS_201,
+                String.format(AccountsConstants.MESSAGE_201_BATCH, created),
+                HttpStatus.CREATED
+        );
+    }
+
     /* ===================== FETCH ===================== */
 
     @Operation(summary = "Fetch Account Details", description = "Fetch account details by mobile number")
@@ -93,6 +122,21 @@ public class AccountsController {
         return ResponseEntity.ok(customerDto);
     }
 
+    @Operation(summary = "Fetch Customer Details", description = "Fetch customer, account, card and loan details by mobile number")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Customer details fetched successfully, card or loan details are left out if that service did not answer in time"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/fetchCustomerDetails")
+    public ResponseEntity<CustomerDetailsDto> fetchCustomerDetails(@RequestParam
+                                                                   @Pattern(regexp = MOBILE_REGEX, message = "Invalid mobile number")
+                                                                   String mobileNumber) {
+
+        CustomerDetailsDto customerDetailsDto = customersService.fetchCustomerDetails(mobileNumber);
+        return ResponseEntity.ok(customerDetailsDto);
+    }
+
     /* ===================== UPDATE ===================== */
 
     @Operation(summary = "Update Account Details", description = "Update account and customer details")
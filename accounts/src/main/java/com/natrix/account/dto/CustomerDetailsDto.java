@@ -0,0 +1,43 @@
+package com.natrix.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(
+        name = "CustomerDetails",
+        description = "Schema to hold Customer, Account, Cards and Loans information"
+)
+public class CustomerDetailsDto {
+
+    @Schema(
+            description = "Name of the customer", example = "Eazy Bytes"
+    )
+    private String name;
+
+    @Schema(
+            description = "Email address of the customer", example = "tutor@eazybytes.com"
+    )
+    private String email;
+
+    @Schema(
+            description = "Mobile Number of the customer", example = "9345432123"
+    )
+    private String mobileNumber;
+
+    @Schema(
+            description = "Account details of the Customer"
+    )
+    private AccountsDto accountsDto;
+
+    @Schema(
+            description = "Card details of the Customer, null if the card service did not answer in time"
+    )
+    private CardsDto cardsDto;
+
+    @Schema(
+            description = "Loan details of the Customer, null if the loan service did not answer in time"
+    )
+    private LoansDto loansDto;
+
+}
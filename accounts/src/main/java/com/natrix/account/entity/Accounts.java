@@ -3,17 +3,21 @@ package com.natrix.account.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Getter
 @Setter
 @RequiredArgsConstructor
 @Entity
-@Table(name = "account")
-public class Accounts extends BaseEntity{
+@Table(name = "accounts")
+public class Accounts extends BaseEntity implements Persistable<Long> {
 
     @Column(name="customer_id")
     private Long customerId;
@@ -27,4 +31,28 @@ public class Accounts extends BaseEntity{
 
     @Column(name="branch_address")
     private String branchAddress;
+
+    /**
+     * The account number is assigned by the application, so Spring Data cannot tell a new
+     * account from an existing one by its id. Tracking it here lets save() persist directly
+     * instead of merging, which would cost a SELECT per row and break insert batching.
+     */
+    @Transient
+    private boolean newAccount = true;
+
+    @Override
+    public Long getId() {
+        return this.accountNumber;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newAccount;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newAccount = false;
+    }
 }
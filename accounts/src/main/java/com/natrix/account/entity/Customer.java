@@ -4,16 +4,19 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Getter
 @Setter
 @RequiredArgsConstructor
 @Entity
 @Table(name = "customer")
-public class Customer extends BaseEntity {
+public class Customer extends BaseEntity implements Persistable<Long> {
 
+    /**
+     * Assigned from CustomerIdGenerator before the first save.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "customer_id")
     private Long customerId;
 
@@ -26,4 +29,25 @@ public class Customer extends BaseEntity {
     @Column(name = "mobile_number")
     private String mobileNumber;
 
+    /**
+     * Same as Accounts, the id is assigned so save() needs to be told a customer is new.
+     */
+    @Transient
+    private boolean newCustomer = true;
+
+    @Override
+    public Long getId() {
+        return this.customerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.newCustomer;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newCustomer = false;
+    }
 }
@@ -0,0 +1,15 @@
+package com.natrix.account.generator;
+
+/**
+ * Reserves contiguous ranges of account sequence values shared by every node.
+ */
+@FunctionalInterface
+public interface AccountNumberBlockSource {
+
+    /**
+     * @param blockSize - number of sequence values to reserve
+     * @return the first sequence value of the reserved block
+     */
+    long reserve(int blockSize);
+
+}
@@ -0,0 +1,14 @@
+package com.natrix.account.generator;
+
+/**
+ * Hands out account numbers for new accounts. Declare another bean of this type
+ * (e.g. marked {@code @Primary}) to replace the default block based implementation.
+ */
+public interface AccountNumberGenerator {
+
+    /**
+     * @return a unique 10 digit account number whose last digit is a Luhn check digit
+     */
+    long nextAccountNumber();
+
+}
@@ -0,0 +1,70 @@
+package com.natrix.account.generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BlockAccountNumberGenerator implements AccountNumberGenerator {
+
+    /**
+     * Sequence values are 9 digits, the 10th digit of the account number is the check digit.
+     */
+    static final long MAX_SEQUENCE = 999_999_999L;
+
+    private final BlockSequence sequence;
+
+    public BlockAccountNumberGenerator(AccountNumberBlockSource blockSource,
+                                       @Value("${accounts.account-number.block-size:1000}") int blockSize) {
+
+        this.sequence = new BlockSequence("Account number", blockSource::reserve, blockSize, MAX_SEQUENCE);
+    }
+
+    /**
+     * Numbers come from a block reserved up front for this node. Handing one out is a single
+     * atomic increment, only an exhausted block goes back to the block source.
+     *
+     * @return a unique 10 digit account number ending in a Luhn check digit
+     */
+    @Override
+    public long nextAccountNumber() {
+
+        return withCheckDigit(this.sequence.next());
+    }
+
+    /**
+     * @param sequence - 9 digit sequence value
+     * @return the sequence followed by its Luhn check digit
+     */
+    public static long withCheckDigit(long sequence) {
+
+        return sequence * 10 + checkDigit(sequence);
+    }
+
+    /**
+     * @param accountNumber - account number including the check digit
+     * @return true if the last digit is the Luhn check digit of the preceding digits
+     */
+    public static boolean isValid(long accountNumber) {
+
+        return accountNumber > 0 && checkDigit(accountNumber / 10) == accountNumber % 10;
+    }
+
+    private static int checkDigit(long payload) {
+
+        int sum = 0;
+        boolean doubled = true;
+        for (long remaining = payload; remaining > 0; remaining /= 10) {
+            int digit = (int) (remaining % 10);
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+}
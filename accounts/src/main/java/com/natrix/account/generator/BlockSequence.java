@@ -0,0 +1,80 @@
+package com.natrix.account.generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Values of a shared sequence handed out from blocks reserved up front for this node. Handing one out
+ * is a single atomic increment, only an exhausted block goes back to the block source.
+ */
+final class BlockSequence {
+
+    private final String name;
+
+    private final IntToLongFunction blockSource;
+
+    private final int blockSize;
+
+    private final long maxValue;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    /**
+     * @param name        - sequence name for error messages
+     * @param blockSource - reserves the given number of values and returns the first one
+     * @param blockSize   - number of values reserved at a time
+     * @param maxValue    - highest value the sequence may hand out
+     */
+    BlockSequence(String name, IntToLongFunction blockSource, int blockSize, long maxValue) {
+
+        this.name = name;
+        this.blockSource = blockSource;
+        this.blockSize = blockSize;
+        this.maxValue = maxValue;
+    }
+
+    long next() {
+
+        while (true) {
+            Block block = this.current.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    private void refill(Block exhausted) {
+
+        this.refillLock.lock();
+        try {
+            if (this.current.get() == exhausted) {
+                long start = this.blockSource.applyAsLong(this.blockSize);
+                if (start + this.blockSize - 1 > this.maxValue) {
+                    throw new IllegalStateException(this.name + " sequence exhausted");
+                }
+                this.current.set(new Block(start, start + this.blockSize));
+            }
+        } finally {
+            this.refillLock.unlock();
+        }
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.natrix.account.generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Customer ids from blocks of {@code customer_seq}, assigned before the customer is saved so that
+ * Hibernate can batch the inserts. Blocks are reserved on {@link SequenceBlocks} instead of a
+ * second connection of the request pool.
+ */
+@Component
+public class CustomerIdGenerator {
+
+    private final BlockSequence sequence;
+
+    public CustomerIdGenerator(SequenceBlocks sequenceBlocks,
+                               @Value("${accounts.customer-id.block-size:50}") int blockSize) {
+
+        this.sequence = new BlockSequence("Customer id",
+                size -> sequenceBlocks.reserve("customer_seq", size), blockSize, Long.MAX_VALUE);
+    }
+
+    public long nextCustomerId() {
+
+        return this.sequence.next();
+    }
+
+}
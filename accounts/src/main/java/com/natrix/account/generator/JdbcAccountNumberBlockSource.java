@@ -0,0 +1,22 @@
+package com.natrix.account.generator;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class JdbcAccountNumberBlockSource implements AccountNumberBlockSource {
+
+    private final SequenceBlocks sequenceBlocks;
+
+    /**
+     * @param blockSize - number of sequence values to reserve
+     * @return the first sequence value of the reserved block
+     */
+    @Override
+    public long reserve(int blockSize) {
+
+        return this.sequenceBlocks.reserve("account_number_seq", blockSize);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.natrix.account.generator;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Reserves blocks of the table backed sequences on a small pool of its own. A reservation is needed
+ * while a request already holds a connection of the main pool, taking a second one from that pool
+ * deadlocks once every request thread waits for it. Running in autocommit also keeps a reserved block
+ * reserved when the request transaction rolls back, so its values are never handed out twice.
+ */
+@Component
+public class SequenceBlocks implements DisposableBean {
+
+    private final HikariDataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceBlocks(DataSourceProperties dataSourceProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("sequences");
+        this.dataSource.setMaximumPoolSize(2);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setAutoCommit(true);
+        // not a bean, so Boot does not bind its hikaricp.* metrics
+        meterRegistry.ifAvailable(registry ->
+                this.dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+    }
+
+    /**
+     * Moves the shared counter forward by a whole block in one atomic UPDATE. Both statements run on
+     * the same connection so LAST_INSERT_ID() returns the value written by this node.
+     *
+     * @param sequenceTable - single row table holding the next value of the sequence
+     * @param blockSize     - number of sequence values to reserve
+     * @return the first sequence value of the reserved block
+     */
+    public long reserve(String sequenceTable, int blockSize) {
+
+        Long blockEnd = this.jdbcTemplate.execute((Statement statement) -> {
+            statement.executeUpdate("UPDATE " + sequenceTable + " SET next_val = LAST_INSERT_ID(next_val + " + blockSize + ")");
+            try (ResultSet resultSet = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+        return blockEnd - blockSize;
+    }
+
+    @Override
+    public void destroy() {
+
+        this.dataSource.close();
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.natrix.account.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency keys and the responses they produced. Completed responses are kept in a bounded,
+ * expiring in-memory cache, so most retries are answered without touching the database. The
+ * {@code idempotency_key} table is the shared record across replicas and restarts: a key is claimed
+ * by inserting its row, which only one request can do, and the row is completed with the response.
+ * All statements run in autocommit, outside the transaction of the request.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore implements DisposableBean {
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO idempotency_key (idempotency_key, fingerprint, created_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT_SQL = "SELECT fingerprint, status_code, content_type, response_body, created_at "
+            + "FROM idempotency_key WHERE idempotency_key = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE idempotency_key SET status_code = ?, content_type = ?, "
+            + "response_body = ? WHERE idempotency_key = ?";
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_key WHERE idempotency_key = ? AND status_code IS NULL";
+
+    private static final String TAKE_OVER_SQL = "DELETE FROM idempotency_key "
+            + "WHERE idempotency_key = ? AND status_code IS NULL AND created_at < ?";
+
+    private static final String PURGE_SQL = "DELETE FROM idempotency_key WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache<String, StoredResponse> responses;
+
+    private final Duration retention;
+
+    private final Duration claimTimeout;
+
+    private final ScheduledExecutorService purger = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("idempotency-purge").daemon().factory());
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            @Value("${idempotency.cache-size:10000}") long cacheSize,
+                            @Value("${idempotency.retention:24h}") Duration retention,
+                            @Value("${idempotency.claim-timeout:30s}") Duration claimTimeout) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(retention)
+                .build();
+        this.retention = retention;
+        this.claimTimeout = claimTimeout;
+        this.purger.scheduleWithFixedDelay(this::purge, 1, 60, TimeUnit.MINUTES);
+    }
+
+    /**
+     * @param key         - Idempotency-Key of the request
+     * @param fingerprint - hash of the request
+     * @return the stored response to replay, a claim to run the request, or the key being in use
+     */
+    public Claim claim(String key, String fingerprint) {
+
+        StoredResponse cached = this.responses.getIfPresent(key);
+        if (cached != null) {
+            return new Claim(Claim.Outcome.REPLAY, cached);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (insertClaim(key, fingerprint, now)) {
+            return new Claim(Claim.Outcome.CLAIMED, null);
+        }
+        // claimed before, by this or another replica
+
+        List<Row> rows = this.jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Row(
+                rs.getString("fingerprint"), rs.getObject("status_code", Integer.class), rs.getString("content_type"),
+                rs.getBytes("response_body"), rs.getTimestamp("created_at").toLocalDateTime()), key);
+        if (rows.isEmpty()) {
+            // released or purged in between
+            return retryClaim(key, fingerprint, now);
+        }
+
+        Row row = rows.getFirst();
+        if (row.status() != null) {
+            StoredResponse stored = new StoredResponse(row.fingerprint(), row.status(), row.contentType(), row.body());
+            this.responses.put(key, stored);
+            return new Claim(Claim.Outcome.REPLAY, stored);
+        }
+        LocalDateTime abandonedBefore = now.minus(this.claimTimeout);
+        if (row.createdAt().isBefore(abandonedBefore)
+                && this.jdbcTemplate.update(TAKE_OVER_SQL, key, Timestamp.valueOf(abandonedBefore)) > 0) {
+            log.warn("Taking over Idempotency-Key {} claimed more than {} ago", key, this.claimTimeout);
+            return retryClaim(key, fingerprint, now);
+        }
+        return new Claim(Claim.Outcome.IN_PROGRESS, null);
+    }
+
+    /**
+     * Records the final response of a claimed key.
+     */
+    public void complete(String key, StoredResponse response) {
+
+        this.jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(), key);
+        this.responses.put(key, response);
+    }
+
+    /**
+     * Gives up a claim whose request failed in a way worth retrying.
+     */
+    public void release(String key) {
+
+        this.jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Override
+    public void destroy() {
+
+        this.purger.shutdownNow();
+    }
+
+    private Claim retryClaim(String key, String fingerprint, LocalDateTime now) {
+
+        return new Claim(insertClaim(key, fingerprint, now) ? Claim.Outcome.CLAIMED : Claim.Outcome.IN_PROGRESS, null);
+    }
+
+    /**
+     * @return true if the row was inserted, false if the key is taken
+     */
+    private boolean insertClaim(String key, String fingerprint, LocalDateTime now) {
+
+        try {
+            this.jdbcTemplate.update(CLAIM_SQL, key, fingerprint, Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    private void purge() {
+
+        try {
+            int purged = this.jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now().minus(this.retention)));
+            log.debug("Purged {} expired idempotency keys", purged);
+        } catch (RuntimeException ex) {
+            log.warn("Purging expired idempotency keys failed", ex);
+        }
+    }
+
+    /**
+     * @param outcome  - what to do with the request
+     * @param response - response to replay for {@link Outcome#REPLAY}
+     */
+    public record Claim(Outcome outcome, StoredResponse response) {
+
+        public enum Outcome {
+            CLAIMED, REPLAY, IN_PROGRESS
+        }
+
+    }
+
+    private record Row(String fingerprint, Integer status, String contentType, byte[] body, LocalDateTime createdAt) {
+    }
+
+}
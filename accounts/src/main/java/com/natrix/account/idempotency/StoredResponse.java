@@ -0,0 +1,12 @@
+package com.natrix.account.idempotency;
+
+/**
+ * Final response of a request sent with an {@code Idempotency-Key}, replayed for every retry.
+ *
+ * @param fingerprint - hash of method, path, query and body of the original request
+ * @param status      - HTTP status
+ * @param contentType - content type of the body, may be null
+ * @param body        - response body
+ */
+public record StoredResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
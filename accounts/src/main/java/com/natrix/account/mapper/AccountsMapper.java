@@ -2,6 +2,7 @@ package com.natrix.account.mapper;
 
 import com.natrix.account.dto.AccountsDto;
 import com.natrix.account.entity.Accounts;
+import com.natrix.account.repository.projection.CustomerAccountView;
 
 public class AccountsMapper {
 
@@ -13,6 +14,14 @@ public class AccountsMapper {
         return accountsDto;
     }
 
+    public static AccountsDto mapToDto(CustomerAccountView customerAccountView, AccountsDto accountsDto) {
+
+        accountsDto.setAccountNumber(customerAccountView.getAccountNumber());
+        accountsDto.setAccountType(customerAccountView.getAccountType());
+        accountsDto.setBranchAddress(customerAccountView.getBranchAddress());
+        return accountsDto;
+    }
+
     public static Accounts mapToEntity(AccountsDto accountsDto, Accounts accounts) {
 
         accounts.setAccountNumber(accountsDto.getAccountNumber());
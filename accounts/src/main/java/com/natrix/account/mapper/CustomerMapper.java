@@ -2,6 +2,7 @@ package com.natrix.account.mapper;
 
 import com.natrix.account.dto.CustomerDto;
 import com.natrix.account.entity.Customer;
+import com.natrix.account.repository.projection.CustomerAccountView;
 
 public class CustomerMapper {
 
@@ -13,6 +14,14 @@ public class CustomerMapper {
         return customerDto;
     }
 
+    public static CustomerDto mapToDto(CustomerAccountView customerAccountView, CustomerDto customerDto) {
+
+        customerDto.setName(customerAccountView.getName());
+        customerDto.setEmail(customerAccountView.getEmail());
+        customerDto.setMobileNumber(customerAccountView.getMobileNumber());
+        return customerDto;
+    }
+
     public static Customer mapToEntity(CustomerDto customerDto, Customer customer) {
 
         customer.setName(customerDto.getName());
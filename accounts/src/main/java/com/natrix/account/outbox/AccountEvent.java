@@ -0,0 +1,14 @@
+package com.natrix.account.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of the customer lifecycle events published to {@code accounts.events}, the routing key
+ * tells created from deleted.
+ *
+ * @param customerId   - id of the customer
+ * @param mobileNumber - mobile number cards and loans are kept under
+ * @param occurredAt   - time of the change
+ */
+public record AccountEvent(Long customerId, String mobileNumber, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,257 @@
+package com.natrix.account.outbox;
+
+import com.natrix.account.constants.AccountsConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes {@code outbox_event} rows to the {@code accounts.events} exchange. A batch is claimed in a
+ * short transaction with {@code SELECT ... FOR UPDATE SKIP LOCKED} that stamps {@code claimed_by} and
+ * {@code claimed_at} on its rows, so the relays of several instances take disjoint batches. The batch
+ * is sent without waiting in between, then the publisher confirms of the whole batch are awaited and
+ * only confirmed rows are deleted, no transaction stays open while the broker is involved. Rows that
+ * are not confirmed are released and sent again with a later batch, the rows of a relay that died are
+ * taken over once their claim is older than {@code outbox.relay.claim-timeout}. Consumers see every
+ * event at least once and may see it twice.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String CLAIMABLE_SQL = "SELECT event_id, event_type, payload FROM outbox_event "
+            + "WHERE claimed_at IS NULL OR claimed_at < ? ORDER BY event_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CLAIM_SQL =
+            "UPDATE outbox_event SET claimed_by = ?, claimed_at = ? WHERE event_id = ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE outbox_event SET claimed_by = NULL, claimed_at = NULL WHERE event_id = ? AND claimed_by = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE event_id = ?";
+
+    private final String relayId = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private final int batchSize;
+
+    private final Duration pollInterval;
+
+    private final Duration confirmTimeout;
+
+    private final Duration claimTimeout;
+
+    private final Counter publishedCounter;
+
+    private final Counter unconfirmedCounter;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private volatile boolean running;
+
+    private Thread relay;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       RabbitTemplate rabbitTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.poll-interval:1s}") Duration pollInterval,
+                       @Value("${outbox.relay.confirm-timeout:5s}") Duration confirmTimeout,
+                       @Value("${outbox.relay.claim-timeout:1m}") Duration claimTimeout) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rabbitTemplate = rabbitTemplate;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.confirmTimeout = confirmTimeout;
+        this.claimTimeout = claimTimeout;
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        this.unconfirmedCounter = Counter.builder("outbox.events.unconfirmed")
+                .description("Outbox events nacked or not confirmed in time, sent again later")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ends the wait for the next poll, called after a transaction with outbox events committed.
+     */
+    public void wakeUp() {
+
+        this.wakeUps.release();
+    }
+
+    @Override
+    public void start() {
+
+        this.running = true;
+        this.relay = Thread.ofPlatform().name("outbox-relay").daemon().start(this::relayLoop);
+    }
+
+    @Override
+    public void stop() {
+
+        this.running = false;
+        this.wakeUp();
+        try {
+            this.relay.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+
+        return this.running;
+    }
+
+    private void relayLoop() {
+
+        while (this.running) {
+            int relayed = 0;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException ex) {
+                log.warn("Relaying outbox events failed, retrying in {}", this.pollInterval, ex);
+            }
+            if (relayed < this.batchSize) {
+                try {
+                    this.wakeUps.tryAcquire(this.pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+                    this.wakeUps.drainPermits();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of events confirmed, fewer than a full batch lets the relay wait for the next poll
+     */
+    private int relayBatch() {
+
+        List<OutboxRow> rows = claimBatch();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<CorrelationData> confirms = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            CorrelationData correlationData = new CorrelationData(String.valueOf(row.eventId()));
+            this.rabbitTemplate.send(AccountsConstants.ACCOUNT_EVENTS_EXCHANGE, row.eventType(), message(row),
+                    correlationData);
+            confirms.add(correlationData);
+        }
+
+        List<Long> confirmed = new ArrayList<>(rows.size());
+        List<Long> unconfirmed = new ArrayList<>();
+        long deadline = System.nanoTime() + this.confirmTimeout.toNanos();
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                CorrelationData.Confirm confirm = confirms.get(i).getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.ack()) {
+                    confirmed.add(rows.get(i).eventId());
+                    continue;
+                }
+            } catch (InterruptedException ex) {
+                // the claim runs out and another relay sends the rest
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException ex) {
+                // stays in the outbox
+            }
+            unconfirmed.add(rows.get(i).eventId());
+        }
+
+        if (!confirmed.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(DELETE_SQL, confirmed, confirmed.size(),
+                    (ps, eventId) -> ps.setLong(1, eventId));
+        }
+        if (!unconfirmed.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(RELEASE_SQL, unconfirmed, unconfirmed.size(), (ps, eventId) -> {
+                ps.setLong(1, eventId);
+                ps.setString(2, this.relayId);
+            });
+        }
+        this.publishedCounter.increment(confirmed.size());
+        if (confirmed.size() < rows.size()) {
+            this.unconfirmedCounter.increment(rows.size() - confirmed.size());
+            log.warn("{} of {} outbox events were not confirmed by the broker, sending them again",
+                    rows.size() - confirmed.size(), rows.size());
+        }
+        return confirmed.size();
+    }
+
+    /**
+     * Rows locked by another relay's claim transaction are skipped rather than waited for, rows it has
+     * claimed are left alone until the claim times out.
+     */
+    private List<OutboxRow> claimBatch() {
+
+        return this.transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxRow> rows = this.jdbcTemplate.query(CLAIMABLE_SQL,
+                    (rs, rowNum) -> new OutboxRow(rs.getLong("event_id"), rs.getString("event_type"),
+                            rs.getString("payload")),
+                    Timestamp.valueOf(now.minus(this.claimTimeout)), this.batchSize);
+            if (!rows.isEmpty()) {
+                this.jdbcTemplate.batchUpdate(CLAIM_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, this.relayId);
+                    ps.setTimestamp(2, Timestamp.valueOf(now));
+                    ps.setLong(3, row.eventId());
+                });
+            }
+            return rows;
+        });
+    }
+
+    private static Message message(OutboxRow row) {
+
+        return MessageBuilder.withBody(row.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(row.eventId()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+
+    private record OutboxRow(long eventId, String eventType, String payload) {
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.natrix.account.outbox;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Appends events to {@code outbox_event} on the connection of the running transaction, so they are
+ * committed or rolled back together with the change they describe. {@link OutboxRelay} publishes them.
+ */
+@Component
+@AllArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_event (event_type, aggregate_id, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper;
+
+    // absent with outbox.relay.enabled=false
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    /**
+     * @param eventType - routing key of the event
+     * @param events    - events of the same type, written in one JDBC batch
+     */
+    public void append(String eventType, List<AccountEvent> events) {
+
+        if (events.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, eventType);
+            ps.setString(2, String.valueOf(event.customerId()));
+            ps.setString(3, this.jsonMapper.writeValueAsString(event));
+            ps.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+                }
+            });
+        } else {
+            this.outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+        }
+    }
+
+}
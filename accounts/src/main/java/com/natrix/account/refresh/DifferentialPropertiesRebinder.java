@@ -0,0 +1,127 @@
+package com.natrix.account.refresh;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBean;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesBeans;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Replaces Spring Cloud's rebinder, which rebinds every {@code @ConfigurationProperties} bean on each
+ * refresh, including the data source and web server ones. This one rebinds only the beans whose prefix
+ * contains a changed key, so a changed contact email touches {@code AccountsContactInfoDto} alone.
+ * Every refresh is kept for the {@code rebinds} actuator endpoint.
+ */
+@Slf4j
+@Component
+public class DifferentialPropertiesRebinder extends ConfigurationPropertiesRebinder {
+
+    private static final int HISTORY_SIZE = 20;
+
+    private final ConfigurationPropertiesBeans beans;
+
+    private final Deque<RebindReport> history = new ArrayDeque<>();
+
+    private ApplicationContext applicationContext;
+
+    public DifferentialPropertiesRebinder(ConfigurationPropertiesBeans beans) {
+
+        super(beans);
+        this.beans = beans;
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+
+        super.setApplicationContext(applicationContext);
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+
+        if (!this.applicationContext.equals(event.getSource()) && !event.getKeys().equals(event.getSource())) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<ConfigurationPropertyName> changed = event.getKeys().stream()
+                .map(key -> ConfigurationPropertyName.adapt(key, '.'))
+                .toList();
+
+        Set<String> rebound = new TreeSet<>();
+        Set<String> skipped = new TreeSet<>();
+        for (String beanName : this.beans.getBeanNames()) {
+            if (isAffected(beanName, changed) && rebind(beanName)) {
+                rebound.add(beanName);
+            } else {
+                skipped.add(beanName);
+            }
+        }
+
+        RebindReport report = new RebindReport(Instant.now(), new TreeSet<>(event.getKeys()), rebound, skipped.size(),
+                Duration.ofNanos(System.nanoTime() - start));
+        synchronized (this.history) {
+            if (this.history.size() == HISTORY_SIZE) {
+                this.history.removeLast();
+            }
+            this.history.addFirst(report);
+        }
+        log.info("Rebound {} of {} configuration properties beans for {} changed keys in {} ms", rebound.size(),
+                rebound.size() + skipped.size(), event.getKeys().size(), report.duration().toMillis());
+    }
+
+    /**
+     * @return the latest refreshes, newest first
+     */
+    public List<RebindReport> getHistory() {
+
+        synchronized (this.history) {
+            return new ArrayList<>(this.history);
+        }
+    }
+
+    /**
+     * A bean whose prefix cannot be determined is rebound, as the full rebinder would.
+     */
+    private boolean isAffected(String beanName, List<ConfigurationPropertyName> changed) {
+
+        ConfigurationPropertiesBean bean;
+        try {
+            bean = ConfigurationPropertiesBean.get(this.applicationContext,
+                    this.applicationContext.getBean(beanName), beanName);
+        } catch (BeansException ex) {
+            return true;
+        }
+        if (bean == null || bean.getAnnotation().prefix().isEmpty()) {
+            return true;
+        }
+
+        ConfigurationPropertyName prefix = ConfigurationPropertyName.of(bean.getAnnotation().prefix());
+        return changed.stream().anyMatch(key -> prefix.equals(key) || prefix.isAncestorOf(key));
+    }
+
+    /**
+     * @param changedKeys - Keys the refresh changed
+     * @param reboundBeans - Beans rebound because their prefix contains a changed key
+     * @param skippedBeans - Number of beans left as they were
+     * @param duration - Time spent rebinding
+     */
+    public record RebindReport(Instant refreshedAt, Set<String> changedKeys, Set<String> reboundBeans,
+                               int skippedBeans, Duration duration) {
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.natrix.account.refresh;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/rebinds}: what the latest refreshes changed and rebound, and how long that took.
+ */
+@Component
+@Endpoint(id = "rebinds")
+@AllArgsConstructor
+public class RebindsEndpoint {
+
+    private final DifferentialPropertiesRebinder rebinder;
+
+    @ReadOperation
+    public List<DifferentialPropertiesRebinder.RebindReport> rebinds() {
+
+        return this.rebinder.getHistory();
+    }
+
+}
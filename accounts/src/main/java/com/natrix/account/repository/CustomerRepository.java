@@ -1,15 +1,29 @@
 package com.natrix.account.repository;
 
 import com.natrix.account.entity.Customer;
+import com.natrix.account.repository.projection.CustomerAccountView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends BaseRepository<Customer, Long> {
 
-    boolean existsByMobileNumber(String mobileNumber);
-
     Optional<Customer> findByMobileNumber(String mobileNumber);
 
+    @Query("select c.mobileNumber from Customer c where c.mobileNumber in :mobileNumbers")
+    List<String> findExistingMobileNumbers(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
+    @Query("""
+            select c.customerId as customerId, c.name as name, c.email as email, c.mobileNumber as mobileNumber,
+                   a.accountNumber as accountNumber, a.accountType as accountType, a.branchAddress as branchAddress
+            from Customer c left join Accounts a on a.customerId = c.customerId
+            where c.mobileNumber = :mobileNumber
+            """)
+    Optional<CustomerAccountView> findCustomerAccountByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
 }
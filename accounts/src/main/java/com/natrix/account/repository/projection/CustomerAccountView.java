@@ -0,0 +1,23 @@
+package com.natrix.account.repository.projection;
+
+/**
+ * Read-only view of a customer joined with its account, fetched in a single query.
+ * Values are read straight from the result set, no managed entity is created.
+ */
+public interface CustomerAccountView {
+
+    Long getCustomerId();
+
+    String getName();
+
+    String getEmail();
+
+    String getMobileNumber();
+
+    Long getAccountNumber();
+
+    String getAccountType();
+
+    String getBranchAddress();
+
+}
@@ -2,10 +2,14 @@ package com.natrix.account.service;
 
 import com.natrix.account.dto.CustomerDto;
 
+import java.util.List;
+
 public interface IAccountsService {
 
     void createAccount(CustomerDto customerDto);
 
+    int createAccounts(List<CustomerDto> customerDtos);
+
     CustomerDto fetchAccount(String mobileNumber);
 
     boolean updateAccount(CustomerDto customerDto);
@@ -0,0 +1,9 @@
+package com.natrix.account.service;
+
+import com.natrix.account.dto.CustomerDetailsDto;
+
+public interface ICustomersService {
+
+    CustomerDetailsDto fetchCustomerDetails(String mobileNumber);
+
+}
@@ -0,0 +1,14 @@
+package com.natrix.account.service.client;
+
+import com.natrix.account.dto.CardsDto;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+@HttpExchange("/api/cards")
+public interface CardsClient {
+
+    @GetExchange("/fetch")
+    CardsDto fetchCardDetails(@RequestParam String mobileNumber);
+
+}
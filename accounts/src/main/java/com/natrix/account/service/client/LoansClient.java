@@ -0,0 +1,14 @@
+package com.natrix.account.service.client;
+
+import com.natrix.account.dto.LoansDto;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+@HttpExchange("/api/loans")
+public interface LoansClient {
+
+    @GetExchange("/fetch")
+    LoansDto fetchLoanDetails(@RequestParam String mobileNumber);
+
+}
@@ -1,5 +1,6 @@
 package com.natrix.account.service.impl;
 
+import com.natrix.account.cache.AccountsCacheEvictor;
 import com.natrix.account.constants.AccountsConstants;
 import com.natrix.account.dto.AccountsDto;
 import com.natrix.account.dto.CustomerDto;
@@ -7,16 +8,29 @@ import com.natrix.account.entity.Accounts;
 import com.natrix.account.entity.Customer;
 import com.natrix.account.exception.CustomerAlreadyExistsException;
 import com.natrix.account.exception.ResourceNotFoundException;
+import com.natrix.account.generator.AccountNumberGenerator;
+import com.natrix.account.generator.CustomerIdGenerator;
 import com.natrix.account.mapper.AccountsMapper;
 import com.natrix.account.mapper.CustomerMapper;
+import com.natrix.account.outbox.AccountEvent;
+import com.natrix.account.outbox.OutboxWriter;
 import com.natrix.account.repository.AccountsRepository;
 import com.natrix.account.repository.CustomerRepository;
+import com.natrix.account.repository.projection.CustomerAccountView;
 import com.natrix.account.service.IAccountsService;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Random;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
@@ -26,21 +40,128 @@ public class AccountsServiceImpl implements IAccountsService {
 
     private final CustomerRepository customerRepository;
 
+    private final AccountsCacheEvictor accountsCacheEvictor;
+
+    private final EntityManager entityManager;
+
+    private final AccountNumberGenerator accountNumberGenerator;
+
+    private final CustomerIdGenerator customerIdGenerator;
+
+    private final OutboxWriter outboxWriter;
+
+    /**
+     * Customer, account and the customer.created event are committed together. The customer is
+     * flushed right away so that the unique constraint on the mobile number rejects a duplicate
+     * before anything else is written, instead of checking with a SELECT that concurrent creates
+     * could both pass.
+     *
+     * @param customerDto - CustomerDto Object
+     */
+    @Transactional
     @Override
     public void createAccount(CustomerDto customerDto) {
 
-        Customer customer = CustomerMapper.mapToEntity(customerDto, new Customer());
+        Customer customer = this.newCustomer(customerDto);
 
-        if (this.customerRepository.existsByMobileNumber(customer.getMobileNumber())) {
-            throw new CustomerAlreadyExistsException("Customer with mobile number " + customer.getMobileNumber() + " already exists");
+        Customer savedCustomer;
+        try {
+            savedCustomer = this.customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateMobileNumber(ex)) {
+                throw new CustomerAlreadyExistsException("Customer with mobile number " + customer.getMobileNumber() + " already exists");
+            }
+            throw ex;
         }
 
-        Customer savedCustomer = this.customerRepository.save(customer);
-
         Accounts accounts = this.createNewAccount(savedCustomer);
 
         this.accountsRepository.save(accounts);
 
+        this.outboxWriter.append(AccountsConstants.CUSTOMER_CREATED, List.of(customerCreated(savedCustomer)));
+    }
+
+    /**
+     * Duplicates are checked for the whole batch with a single IN query, then customers and
+     * accounts are written in JDBC batches. The persistence context is flushed and cleared
+     * after every batch so memory stays flat for large files. A customer created concurrently
+     * after the check fails the flush on the unique mobile number and the whole batch is rolled back.
+     *
+     * @param customerDtos - Customers to onboard
+     * @return the number of accounts created
+     */
+    @Transactional
+    @Override
+    public int createAccounts(List<CustomerDto> customerDtos) {
+
+        Set<String> mobileNumbers = new LinkedHashSet<>();
+        List<String> duplicates = new ArrayList<>();
+        customerDtos.forEach(customerDto -> {
+            if (!mobileNumbers.add(customerDto.getMobileNumber())) {
+                duplicates.add(customerDto.getMobileNumber());
+            }
+        });
+        if (!duplicates.isEmpty()) {
+            throw new CustomerAlreadyExistsException("Mobile numbers repeated in the batch: " + duplicates);
+        }
+
+        List<String> existing = this.customerRepository.findExistingMobileNumbers(mobileNumbers);
+        if (!existing.isEmpty()) {
+            throw new CustomerAlreadyExistsException("Customers with mobile numbers " + existing + " already exist");
+        }
+
+        for (int from = 0; from < customerDtos.size(); from += AccountsConstants.BATCH_SIZE) {
+
+            List<Customer> customers = customerDtos.subList(from, Math.min(from + AccountsConstants.BATCH_SIZE, customerDtos.size()))
+                    .stream()
+                    .map(this::newCustomer)
+                    .toList();
+
+            List<Customer> savedCustomers = this.customerRepository.saveAll(customers);
+            this.accountsRepository.saveAll(savedCustomers.stream().map(this::createNewAccount).toList());
+            this.outboxWriter.append(AccountsConstants.CUSTOMER_CREATED,
+                    savedCustomers.stream().map(this::customerCreated).toList());
+
+            try {
+                // flushed through the repository, so the violation is translated like in createAccount
+                this.customerRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                if (isDuplicateMobileNumber(ex)) {
+                    throw new CustomerAlreadyExistsException("A customer with one of the mobile numbers "
+                            + customers.stream().map(Customer::getMobileNumber).toList() + " was created concurrently");
+                }
+                throw ex;
+            }
+            this.entityManager.clear();
+        }
+
+        return customerDtos.size();
+    }
+
+    /**
+     * @param customerDto - CustomerDto Object
+     * @return the new customer with its id assigned
+     */
+    private Customer newCustomer(CustomerDto customerDto) {
+
+        Customer customer = CustomerMapper.mapToEntity(customerDto, new Customer());
+        customer.setCustomerId(this.customerIdGenerator.nextCustomerId());
+        return customer;
+    }
+
+    /**
+     * @param ex - Violation reported by the INSERT
+     * @return true if the mobile number constraint was violated, the message names it on MySQL and H2 alike
+     */
+    private static boolean isDuplicateMobileNumber(DataIntegrityViolationException ex) {
+
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(AccountsConstants.MOBILE_NUMBER_CONSTRAINT);
+    }
+
+    private AccountEvent customerCreated(Customer customer) {
+
+        return new AccountEvent(customer.getCustomerId(), customer.getMobileNumber(), LocalDateTime.now());
     }
 
     /**
@@ -51,30 +172,34 @@ public class AccountsServiceImpl implements IAccountsService {
 
         Accounts newAccount = new Accounts();
         newAccount.setCustomerId(customer.getCustomerId());
-        long randomAccNumber = 1000000000L + new Random().nextInt(900000000);
-
-        newAccount.setAccountNumber(randomAccNumber);
+        newAccount.setAccountNumber(this.accountNumberGenerator.nextAccountNumber());
         newAccount.setAccountType(AccountsConstants.SAVINGS);
         newAccount.setBranchAddress(AccountsConstants.ADDRESS);
         return newAccount;
     }
 
     /**
+     * Customer and account are read together in one joined query and mapped from the
+     * projection, so no managed entities are created on this path. Results are cached per
+     * mobile number until evicted by an update or delete on any replica.
      *
+     * @param mobileNumber - Input mobile Number
      * @return customerDto
      */
-
+    @Cacheable(cacheNames = AccountsConstants.ACCOUNTS_CACHE, key = "#mobileNumber")
+    @Transactional(readOnly = true)
     @Override
     public CustomerDto fetchAccount(String mobileNumber) {
 
-        Customer customer = this.customerRepository.findByMobileNumber(mobileNumber)
+        CustomerAccountView customerAccountView = this.customerRepository.findCustomerAccountByMobileNumber(mobileNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber));
 
-        Accounts accounts = this.accountsRepository.findByCustomerId(customer.getCustomerId())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString()));
+        if (customerAccountView.getAccountNumber() == null) {
+            throw new ResourceNotFoundException("Account", "customerId", customerAccountView.getCustomerId().toString());
+        }
 
-        CustomerDto customerDto = CustomerMapper.mapToDto(customer, new CustomerDto());
-        AccountsDto accountsDto = AccountsMapper.mapToDto(accounts, new AccountsDto());
+        CustomerDto customerDto = CustomerMapper.mapToDto(customerAccountView, new CustomerDto());
+        AccountsDto accountsDto = AccountsMapper.mapToDto(customerAccountView, new AccountsDto());
 
         customerDto.setAccountsDto(accountsDto);
 
@@ -99,9 +224,12 @@ public class AccountsServiceImpl implements IAccountsService {
             Customer customer = this.customerRepository.findById(customerId)
                     .orElseThrow(() -> new ResourceNotFoundException("Customer", "customerId", customerId.toString()));
 
+            String previousMobileNumber = customer.getMobileNumber();
             CustomerMapper.mapToEntity(customerDto, customer);
             this.customerRepository.save(customer);
 
+            this.accountsCacheEvictor.evict(previousMobileNumber, customer.getMobileNumber());
+
             isUpdated = true;
 
         }
@@ -118,6 +246,11 @@ public class AccountsServiceImpl implements IAccountsService {
 
        this.accountsRepository.deleteByCustomerId(customer.getCustomerId());
        this.customerRepository.deleteById(customer.getCustomerId());
+       // card and loan delete what they keep under this mobile number
+       this.outboxWriter.append(AccountsConstants.CUSTOMER_DELETED,
+               List.of(new AccountEvent(customer.getCustomerId(), mobileNumber, LocalDateTime.now())));
+
+       this.accountsCacheEvictor.evict(mobileNumber);
 
         return true;
     }
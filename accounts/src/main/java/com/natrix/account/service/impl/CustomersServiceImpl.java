@@ -0,0 +1,100 @@
+package com.natrix.account.service.impl;
+
+import com.natrix.account.dto.CardsDto;
+import com.natrix.account.dto.CustomerDetailsDto;
+import com.natrix.account.dto.CustomerDto;
+import com.natrix.account.dto.LoansDto;
+import com.natrix.account.exception.ResourceNotFoundException;
+import com.natrix.account.service.IAccountsService;
+import com.natrix.account.service.ICustomersService;
+import com.natrix.account.service.client.CardsClient;
+import com.natrix.account.service.client.LoansClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class CustomersServiceImpl implements ICustomersService {
+
+    private final IAccountsService accountsService;
+
+    private final CardsClient cardsClient;
+
+    private final LoansClient loansClient;
+
+    private final ExecutorService clientsExecutor;
+
+    private final Duration cardsTimeout;
+
+    private final Duration loansTimeout;
+
+    public CustomersServiceImpl(IAccountsService accountsService,
+                                CardsClient cardsClient,
+                                LoansClient loansClient,
+                                @Qualifier("clientsExecutor") ExecutorService clientsExecutor,
+                                @Value("${accounts.clients.cards.timeout:800ms}") Duration cardsTimeout,
+                                @Value("${accounts.clients.loans.timeout:800ms}") Duration loansTimeout) {
+
+        this.accountsService = accountsService;
+        this.cardsClient = cardsClient;
+        this.loansClient = loansClient;
+        this.clientsExecutor = clientsExecutor;
+        this.cardsTimeout = cardsTimeout;
+        this.loansTimeout = loansTimeout;
+    }
+
+    /**
+     * Card and loan details are requested in parallel with the account read, so the latency is that
+     * of the slowest of the three. An unknown mobile number fails with ResourceNotFoundException and
+     * cancels the downstream calls still running. A downstream that fails or exceeds its timeout is
+     * left out of the result instead of failing the whole request.
+     *
+     * @param mobileNumber - Input mobile Number
+     * @return customer, account, card and loan details
+     */
+    @Override
+    public CustomerDetailsDto fetchCustomerDetails(String mobileNumber) {
+
+        CompletableFuture<CardsDto> cardsFuture = fetchAsync("card", this.cardsTimeout,
+                () -> this.cardsClient.fetchCardDetails(mobileNumber));
+        CompletableFuture<LoansDto> loansFuture = fetchAsync("loan", this.loansTimeout,
+                () -> this.loansClient.fetchLoanDetails(mobileNumber));
+
+        CustomerDto customerDto;
+        try {
+            customerDto = this.accountsService.fetchAccount(mobileNumber);
+        } catch (ResourceNotFoundException ex) {
+            cardsFuture.cancel(true);
+            loansFuture.cancel(true);
+            throw ex;
+        }
+
+        CustomerDetailsDto customerDetailsDto = new CustomerDetailsDto();
+        customerDetailsDto.setName(customerDto.getName());
+        customerDetailsDto.setEmail(customerDto.getEmail());
+        customerDetailsDto.setMobileNumber(customerDto.getMobileNumber());
+        customerDetailsDto.setAccountsDto(customerDto.getAccountsDto());
+        customerDetailsDto.setCardsDto(cardsFuture.join());
+        customerDetailsDto.setLoansDto(loansFuture.join());
+        return customerDetailsDto;
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(String downstream, Duration timeout, Supplier<T> call) {
+
+        return CompletableFuture.supplyAsync(call, this.clientsExecutor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Leaving {} details out of the customer details: {}", downstream, ex.toString());
+                    return null;
+                });
+    }
+
+}
@@ -0,0 +1,20 @@
+-- block reservations of CustomerIdGenerator, seeded past the highest existing customer_id
+CREATE TABLE IF NOT EXISTS `customer_seq` (
+    `next_val` bigint NOT NULL
+    );
+
+INSERT INTO `customer_seq` (`next_val`)
+SELECT (SELECT COALESCE(MAX(`customer_id`), 0) + 1 FROM `customer`) FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM `customer_seq`);
+
+-- block reservations of AccountNumberGenerator, starts above the range of the former random generator
+CREATE TABLE IF NOT EXISTS `account_number_seq` (
+    `next_val` bigint NOT NULL
+    );
+
+INSERT INTO `account_number_seq` (`next_val`)
+SELECT 190000000 FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM `account_number_seq`);
+
+-- 10 digit account numbers overflow int
+ALTER TABLE `accounts` MODIFY `account_number` bigint AUTO_INCREMENT;
@@ -0,0 +1,5 @@
+-- CustomerRepository.findByMobileNumber / existsByMobileNumber
+ALTER TABLE `customer` ADD CONSTRAINT `uk_customer_mobile_number` UNIQUE (`mobile_number`);
+
+-- AccountsRepository.findByCustomerId / deleteByCustomerId, one account per customer
+ALTER TABLE `accounts` ADD CONSTRAINT `uk_accounts_customer_id` UNIQUE (`customer_id`);
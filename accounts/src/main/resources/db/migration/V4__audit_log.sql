@@ -0,0 +1,12 @@
+-- append-only change history, written in batches by AuditTrail
+CREATE TABLE IF NOT EXISTS `audit_log` (
+    `audit_id` bigint AUTO_INCREMENT PRIMARY KEY,
+    `entity_type` varchar(50) NOT NULL,
+    `entity_id` varchar(50) NOT NULL,
+    `action` varchar(10) NOT NULL,
+    `changes` text NOT NULL,
+    `changed_by` varchar(20) NOT NULL,
+    `changed_at` datetime(6) NOT NULL
+    );
+
+CREATE INDEX `ix_audit_log_entity` ON `audit_log` (`entity_type`, `entity_id`);
@@ -0,0 +1,8 @@
+-- events written with the change they describe, published and deleted by OutboxRelay
+CREATE TABLE IF NOT EXISTS `outbox_event` (
+    `event_id` bigint AUTO_INCREMENT PRIMARY KEY,
+    `event_type` varchar(50) NOT NULL,
+    `aggregate_id` varchar(50) NOT NULL,
+    `payload` text NOT NULL,
+    `created_at` datetime(6) NOT NULL
+    );
@@ -0,0 +1,11 @@
+-- Idempotency-Key claims and the responses they produced, purged after idempotency.retention
+CREATE TABLE IF NOT EXISTS `idempotency_key` (
+    `idempotency_key` varchar(100) PRIMARY KEY,
+    `fingerprint` char(64) NOT NULL,
+    `status_code` int DEFAULT NULL,
+    `content_type` varchar(100) DEFAULT NULL,
+    `response_body` blob DEFAULT NULL,
+    `created_at` datetime(6) NOT NULL
+    );
+
+CREATE INDEX `ix_idempotency_key_created_at` ON `idempotency_key` (`created_at`);
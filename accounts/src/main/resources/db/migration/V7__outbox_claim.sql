@@ -0,0 +1,3 @@
+-- claims of OutboxRelay instances, a claim older than outbox.relay.claim-timeout is taken over
+ALTER TABLE `outbox_event` ADD COLUMN `claimed_by` varchar(36) DEFAULT NULL;
+ALTER TABLE `outbox_event` ADD COLUMN `claimed_at` datetime(6) DEFAULT NULL;
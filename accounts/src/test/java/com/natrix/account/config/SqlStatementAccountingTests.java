@@ -0,0 +1,39 @@
+package com.natrix.account.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementAccountingTests {
+
+    @Test
+    void inListsOfAnyLengthHaveOneShape() {
+
+        String one = SqlStatementAccounting.shape("select a1_0.account_number from accounts a1_0 where a1_0.customer_id in (?)");
+        String three = SqlStatementAccounting.shape("select a1_0.account_number from accounts a1_0 where a1_0.customer_id in (?, ?, ?)");
+        String ten = SqlStatementAccounting.shape("select a1_0.account_number from accounts a1_0 where a1_0.customer_id in (?,?,?,?,?,?,?,?,?,?)");
+
+        assertThat(one).isEqualTo("select a1_0.account_number from accounts a1_0 where a1_0.customer_id in (?...)");
+        assertThat(three).isEqualTo(one);
+        assertThat(ten).isEqualTo(one);
+    }
+
+    @Test
+    void valuesListsAreCollapsed() {
+
+        assertThat(SqlStatementAccounting.shape("insert into customer (name, email, mobile_number) values (?, ?, ?)"))
+                .isEqualTo("insert into customer (name, email, mobile_number) values (?...)");
+    }
+
+    @Test
+    void statementIsPutOnOneLine() {
+
+        assertThat(SqlStatementAccounting.shape("""
+                  select c1_0.customer_id
+                  from customer c1_0
+                  where c1_0.mobile_number=?
+                """))
+                .isEqualTo("select c1_0.customer_id from customer c1_0 where c1_0.mobile_number=?");
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.natrix.account.generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the block based generator with the former per-call {@code new Random()} approach.
+ * Run {@link #main(String[])} after {@code mvn test-compile}; each benchmark is measured at 1, 8 and 64 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountNumberGeneratorBenchmark {
+
+    private AccountNumberGenerator blockGenerator;
+
+    @Setup
+    public void setUp() {
+
+        // in-memory stand-in for account_number_seq, wrapping so long runs never exhaust the range
+        AtomicLong reserved = new AtomicLong();
+        this.blockGenerator = new BlockAccountNumberGenerator(
+                blockSize -> 190_000_000L + reserved.getAndAdd(blockSize) % 800_000_000L, 1000);
+    }
+
+    @Benchmark
+    public long randomPerCall() {
+
+        return 1000000000L + new Random().nextInt(900000000);
+    }
+
+    @Benchmark
+    public long blockGenerator() {
+
+        return this.blockGenerator.nextAccountNumber();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        for (int threads : new int[]{1, 8, 64}) {
+            new Runner(new OptionsBuilder()
+                    .include(AccountNumberGeneratorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.natrix.account.idempotency;
+
+import com.natrix.account.audit.AuditAwareImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the filter in front of a stub create endpoint, with the store on H2 in MySQL mode so a claim is
+ * the same primary key insert as in production.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@Import({AuditAwareImpl.class, IdempotencyStore.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyFilterTests {
+
+    private static final String BODY = "{\"mobileNumber\":\"0911000001\"}";
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final CreateController controller = new CreateController();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+
+        this.mockMvc = MockMvcBuilders.standaloneSetup(this.controller)
+                .addFilters(new IdempotencyFilter(this.idempotencyStore, JsonMapper.builder().build()))
+                .build();
+    }
+
+    @AfterEach
+    void deleteKeys() {
+
+        this.jdbcTemplate.update("DELETE FROM idempotency_key");
+    }
+
+    @Test
+    void firstRequestClaimsTheKeyAndRetriesAreReplayed() throws Exception {
+
+        this.mockMvc.perform(create("claim-and-replay", BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andExpect(content().string("created 1"));
+
+        this.mockMvc.perform(create("claim-and-replay", BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().string("created 1"));
+
+        assertThat(this.controller.calls).hasValue(1);
+        assertThat(this.jdbcTemplate.queryForObject(
+                "SELECT status_code FROM idempotency_key WHERE idempotency_key = 'claim-and-replay'", Integer.class))
+                .isEqualTo(201);
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRejected() throws Exception {
+
+        this.mockMvc.perform(create("reused", BODY)).andExpect(status().isCreated());
+
+        this.mockMvc.perform(create("reused", "{\"mobileNumber\":\"0911000002\"}"))
+                .andExpect(status().isUnprocessableContent());
+
+        assertThat(this.controller.calls).hasValue(1);
+    }
+
+    @Test
+    void serverErrorReleasesTheKey() throws Exception {
+
+        this.controller.status = HttpStatus.INTERNAL_SERVER_ERROR;
+        this.mockMvc.perform(create("released", BODY)).andExpect(status().isInternalServerError());
+        assertThat(this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM idempotency_key WHERE idempotency_key = 'released'", Integer.class)).isZero();
+
+        this.controller.status = HttpStatus.CREATED;
+        this.mockMvc.perform(create("released", BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        assertThat(this.controller.calls).hasValue(2);
+    }
+
+    @Test
+    void abandonedClaimIsTakenOverAfterTheClaimTimeout() throws Exception {
+
+        // left behind by a replica that died while running the request, older than the 30s default
+        this.jdbcTemplate.update("INSERT INTO idempotency_key (idempotency_key, fingerprint, created_at) VALUES (?, ?, ?)",
+                "abandoned", "0".repeat(64), Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+
+        this.mockMvc.perform(create("abandoned", BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        assertThat(this.controller.calls).hasValue(1);
+    }
+
+    @Test
+    void concurrentRequestsWithOneKeyRunOnce() throws Exception {
+
+        this.controller.entered = new CountDownLatch(1);
+        this.controller.release = new CountDownLatch(1);
+
+        CompletableFuture<MvcResult> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.mockMvc.perform(create("concurrent", BODY)).andReturn();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(this.controller.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        this.mockMvc.perform(create("concurrent", BODY)).andExpect(status().isConflict());
+
+        this.controller.release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(201);
+        this.mockMvc.perform(create("concurrent", BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+        assertThat(this.controller.calls).hasValue(1);
+    }
+
+    private static MockHttpServletRequestBuilder create(String key, String body) {
+
+        return post("/api/accounts/create")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    @RestController
+    static class CreateController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private volatile HttpStatus status = HttpStatus.CREATED;
+
+        private volatile CountDownLatch entered = new CountDownLatch(0);
+
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        @PostMapping("/api/accounts/create")
+        ResponseEntity<String> create(@RequestBody String body) throws InterruptedException {
+
+            int call = this.calls.incrementAndGet();
+            this.entered.countDown();
+            this.release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.status(this.status).body("created " + call);
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.natrix.account.outbox;
+
+import com.natrix.account.audit.AuditAwareImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2 in MySQL mode supports {@code FOR UPDATE SKIP LOCKED} like MySQL, so the relays claim disjoint
+ * batches here too.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+@Import(AuditAwareImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTests {
+
+    private static final int EVENTS = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void twoRelaysOnOneTableSendEveryEventOnce() throws InterruptedException {
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < EVENTS; i++) {
+            this.jdbcTemplate.update("INSERT INTO outbox_event (event_type, aggregate_id, payload, created_at) "
+                    + "VALUES ('customer.created', ?, '{}', ?)", String.valueOf(i), createdAt);
+        }
+
+        List<String> sent = new CopyOnWriteArrayList<>();
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(2, Message.class).getMessageProperties().getMessageId());
+            invocation.getArgument(3, CorrelationData.class).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        OutboxRelay first = relay(rabbitTemplate);
+        OutboxRelay second = relay(rabbitTemplate);
+        first.start();
+        second.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class) > 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        first.stop();
+        second.stop();
+
+        assertThat(sent).hasSize(EVENTS).doesNotHaveDuplicates();
+        assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Integer.class)).isZero();
+    }
+
+    private OutboxRelay relay(RabbitTemplate rabbitTemplate) {
+
+        return new OutboxRelay(this.jdbcTemplate, this.transactionManager, rabbitTemplate, new SimpleMeterRegistry(),
+                20, Duration.ofMillis(10), Duration.ofSeconds(5), Duration.ofMinutes(1));
+    }
+
+}
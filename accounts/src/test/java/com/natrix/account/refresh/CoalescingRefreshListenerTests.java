@@ -0,0 +1,117 @@
+package com.natrix.account.refresh;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.event.PathDestinationFactory;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ContextRefresher#refresh()} is synchronized, so Mockito's verification over time would hold its
+ * monitor and keep the listener from refreshing. The refreshes are counted by the stub instead.
+ */
+class CoalescingRefreshListenerTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    private final ContextRefresher contextRefresher = mock(ContextRefresher.class);
+
+    private final ServiceMatcher serviceMatcher = mock(ServiceMatcher.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicInteger refreshes = new AtomicInteger();
+
+    private final CoalescingRefreshListener listener = new CoalescingRefreshListener(this.contextRefresher,
+            this.serviceMatcher, this.meterRegistry, WINDOW, Duration.ZERO);
+
+    @AfterEach
+    void shutDown() {
+
+        this.listener.destroy();
+    }
+
+    @Test
+    void eventsWithinTheWindowAreServedByOneRefresh() throws InterruptedException {
+
+        when(this.serviceMatcher.isForSelf(any())).thenReturn(true);
+        when(this.contextRefresher.refresh()).thenAnswer(invocation -> {
+            this.refreshes.incrementAndGet();
+            return Set.of();
+        });
+
+        this.listener.onApplicationEvent(refresh());
+        this.listener.onApplicationEvent(refresh());
+        this.listener.onApplicationEvent(refresh());
+
+        Thread.sleep(WINDOW.toMillis() * 3);
+        assertThat(this.refreshes).hasValue(1);
+        assertThat(events("scheduled")).isEqualTo(1);
+        assertThat(events("coalesced")).isEqualTo(2);
+    }
+
+    @Test
+    void eventDuringARunningRefreshSchedulesAnotherOne() throws InterruptedException {
+
+        when(this.serviceMatcher.isForSelf(any())).thenReturn(true);
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch refreshed = new CountDownLatch(2);
+        when(this.contextRefresher.refresh()).thenAnswer(invocation -> {
+            refreshing.countDown();
+            release.await();
+            refreshed.countDown();
+            return Set.of("account.message");
+        });
+
+        this.listener.onApplicationEvent(refresh());
+        assertThat(refreshing.await(WINDOW.toMillis() * 5, TimeUnit.MILLISECONDS)).isTrue();
+        this.listener.onApplicationEvent(refresh());
+        release.countDown();
+
+        assertThat(refreshed.await(WINDOW.toMillis() * 5, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(events("scheduled")).isEqualTo(2);
+        assertThat(events("coalesced")).isZero();
+    }
+
+    @Test
+    void eventsForOtherServicesAreIgnored() throws InterruptedException {
+
+        when(this.serviceMatcher.isForSelf(any())).thenReturn(false);
+        when(this.contextRefresher.refresh()).thenAnswer(invocation -> {
+            this.refreshes.incrementAndGet();
+            return Set.of();
+        });
+
+        this.listener.onApplicationEvent(refresh());
+
+        Thread.sleep(WINDOW.toMillis() * 2);
+        assertThat(this.refreshes).hasValue(0);
+        assertThat(events("scheduled")).isZero();
+    }
+
+    private double events(String result) {
+
+        return this.meterRegistry.get("bus.refresh.events").tag("result", result).counter().count();
+    }
+
+    private static RefreshRemoteApplicationEvent refresh() {
+
+        return new RefreshRemoteApplicationEvent(CoalescingRefreshListenerTests.class, "configserver",
+                new PathDestinationFactory().getDestination("accounts:**"));
+    }
+
+}
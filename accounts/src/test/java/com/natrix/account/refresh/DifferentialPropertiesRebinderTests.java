@@ -0,0 +1,64 @@
+package com.natrix.account.refresh;
+
+import com.natrix.account.dto.AccountsContactInfoDto;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.autoconfigure.ConfigurationPropertiesRebinderAutoConfiguration;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DifferentialPropertiesRebinderTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesRebinderAutoConfiguration.class))
+            .withUserConfiguration(RebinderConfig.class)
+            .withPropertyValues("account.message=before", "other.message=before");
+
+    @Test
+    void changedKeyRebindsOnlyTheBeanWithItsPrefix() {
+
+        this.contextRunner.run(context -> {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("changed",
+                    Map.of("account.message", "after", "other.message", "after")));
+
+            context.publishEvent(new EnvironmentChangeEvent(context.getSourceApplicationContext(),
+                    Set.of("account.message")));
+
+            assertThat(context.getBean(AccountsContactInfoDto.class).getMessage()).isEqualTo("after");
+            assertThat(context.getBean(OtherProperties.class).getMessage()).isEqualTo("before");
+            DifferentialPropertiesRebinder.RebindReport report =
+                    context.getBean(DifferentialPropertiesRebinder.class).getHistory().getFirst();
+            assertThat(report.changedKeys()).containsExactly("account.message");
+            assertThat(report.reboundBeans()).singleElement().asString().startsWith("account-");
+            assertThat(report.skippedBeans()).isEqualTo(1);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties({AccountsContactInfoDto.class, OtherProperties.class})
+    @Import(DifferentialPropertiesRebinder.class)
+    static class RebinderConfig {
+    }
+
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "other")
+    static class OtherProperties {
+
+        private String message;
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.natrix.account.service.impl;
+
+import com.natrix.account.audit.AuditAwareImpl;
+import com.natrix.account.cache.AccountsCacheEvictor;
+import com.natrix.account.dto.CustomerDto;
+import com.natrix.account.exception.CustomerAlreadyExistsException;
+import com.natrix.account.generator.BlockAccountNumberGenerator;
+import com.natrix.account.generator.CustomerIdGenerator;
+import com.natrix.account.generator.JdbcAccountNumberBlockSource;
+import com.natrix.account.generator.SequenceBlocks;
+import com.natrix.account.outbox.OutboxWriter;
+import com.natrix.account.repository.AccountsRepository;
+import com.natrix.account.repository.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@ImportAutoConfiguration({CacheAutoConfiguration.class, JacksonAutoConfiguration.class})
+@Import({AccountsServiceImpl.class, AuditAwareImpl.class, CustomerIdGenerator.class, SequenceBlocks.class,
+        BlockAccountNumberGenerator.class, JdbcAccountNumberBlockSource.class, OutboxWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountsServiceImplTests {
+
+    private static final int THREADS = 100;
+
+    @MockitoBean
+    private AccountsCacheEvictor accountsCacheEvictor;
+
+    @Autowired
+    private AccountsServiceImpl accountsService;
+
+    @MockitoSpyBean
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountsRepository accountsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteCustomers() {
+
+        this.jdbcTemplate.update("DELETE FROM outbox_event");
+        this.jdbcTemplate.update("DELETE FROM accounts");
+        this.jdbcTemplate.update("DELETE FROM customer");
+    }
+
+    @Test
+    void concurrentCreatesForOneMobileNumberCreateOneCustomer() throws InterruptedException {
+
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Concurrent Customer");
+        customerDto.setEmail("concurrent@example.com");
+        customerDto.setMobileNumber("0911000001");
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> creates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                creates.add(executor.submit(() -> {
+                    start.await();
+                    this.accountsService.createAccount(customerDto);
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<?> create : creates) {
+            try {
+                create.get();
+                created++;
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(CustomerAlreadyExistsException.class);
+                rejected++;
+            }
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(rejected).isEqualTo(THREADS - 1);
+        // the rejected creates rolled back their account and event together with the customer
+        assertThat(this.customerRepository.count()).isEqualTo(1);
+        assertThat(this.accountsRepository.count()).isEqualTo(1);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void batchRacingASingleCreateIsRejectedAsAWhole() {
+
+        this.accountsService.createAccount(customer("0911000002"));
+        // the single create commits between the duplicate check and the batch INSERT
+        doReturn(List.of()).when(this.customerRepository).findExistingMobileNumbers(any());
+
+        assertThatExceptionOfType(CustomerAlreadyExistsException.class)
+                .isThrownBy(() -> this.accountsService.createAccounts(
+                        List.of(customer("0911000003"), customer("0911000002"), customer("0911000004"))));
+
+        assertThat(this.customerRepository.count()).isEqualTo(1);
+        assertThat(this.accountsRepository.count()).isEqualTo(1);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isEqualTo(1);
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Customer " + mobileNumber);
+        customerDto.setEmail(mobileNumber + "@example.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.natrix.account.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ConfigSnapshotReconcilerTests {
+
+    @TempDir
+    private Path directory;
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+
+    @Test
+    void retiringTheSnapshotPublishesTheKeysItMasked() throws IOException {
+
+        Path path = this.directory.resolve("account.properties");
+        StandardEnvironment environment = environment("dev", path, Map.of(
+                "account.message", "from the snapshot",
+                "account.on-call-support", "same",
+                ConfigSnapshot.PROFILES_PROPERTY, "dev"));
+        environment.getPropertySources().addLast(new MapPropertySource("configserver:account-dev.yml", Map.of(
+                "account.message", "from the config server",
+                "account.on-call-support", "same")));
+
+        reconciler(environment).onEnvironmentChange();
+
+        assertThat(environment.getPropertySources().contains(ConfigSnapshot.PROPERTY_SOURCE_NAME)).isFalse();
+        ArgumentCaptor<EnvironmentChangeEvent> event = ArgumentCaptor.forClass(EnvironmentChangeEvent.class);
+        verify(this.applicationContext).publishEvent(event.capture());
+        assertThat(event.getValue().getSource()).isSameAs(this.applicationContext);
+        assertThat(event.getValue().getKeys()).containsExactly("account.message");
+        assertThat(ConfigSnapshot.read(path)).contains(
+                entry("account.message", "from the config server"),
+                entry(ConfigSnapshot.PROFILES_PROPERTY, "dev"));
+    }
+
+    @Test
+    void snapshotOfOtherProfilesIsIgnored() {
+
+        StandardEnvironment environment = environment("prod", this.directory.resolve("account.properties"),
+                Map.of("account.message", "from the snapshot", ConfigSnapshot.PROFILES_PROPERTY, "dev"));
+
+        new ConfigSnapshotProfileCheck(Supplier::get).postProcessEnvironment(environment, null);
+
+        assertThat(environment.getPropertySources().contains(ConfigSnapshot.PROPERTY_SOURCE_NAME)).isFalse();
+    }
+
+    private static StandardEnvironment environment(String profile, Path path, Map<String, Object> snapshot) {
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.setActiveProfiles(profile);
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of(ConfigSnapshot.PATH_PROPERTY, path.toString())));
+        environment.getPropertySources().addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME,
+                new MapPropertySource(ConfigSnapshot.PROPERTY_SOURCE_NAME, snapshot));
+        return environment;
+    }
+
+    private ConfigSnapshotReconciler reconciler(StandardEnvironment environment) {
+
+        return new ConfigSnapshotReconciler(this.applicationContext, environment, mock(ContextRefresher.class),
+                Duration.ofSeconds(30));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.natrix.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the benchmarks of this package, writes the JMH results as JSON and compares them with the
+ * recorded baseline. Every benchmark found in the baseline is tracked: the run fails when its score
+ * is worse than the baseline by more than {@code benchmarks.threshold} (0.20 means 20%).
+ * <p>
+ * Without a baseline file the results are recorded as the new baseline. Delete or overwrite it
+ * after an intended change in cost, on the same hardware the gate runs on. JMH command line
+ * options given as arguments, e.g. {@code -f 3 ValidationBenchmark}, are passed through.
+ */
+public final class BenchmarkGate {
+
+    private BenchmarkGate() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        double threshold = Double.parseDouble(System.getProperty("benchmarks.threshold", "0.20"));
+        File baseline = new File(System.getProperty("benchmarks.baseline", "baseline.json"));
+        File result = new File(System.getProperty("benchmarks.result", "target/jmh-result.json"));
+        Files.createDirectories(result.getAbsoluteFile().toPath().getParent());
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include(BenchmarkGate.class.getPackageName() + "\\..*Benchmark");
+        }
+        options.resultFormat(ResultFormatType.JSON).result(result.getPath());
+        new Runner(options.build()).run();
+
+        if (!baseline.exists()) {
+            Files.copy(result.toPath(), baseline.toPath());
+            System.out.println("No baseline found, recorded " + result + " as " + baseline);
+            return;
+        }
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        Map<String, JsonNode> current = index(jsonMapper.readTree(result));
+        List<String> regressions = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> tracked : index(jsonMapper.readTree(baseline)).entrySet()) {
+            JsonNode run = current.get(tracked.getKey());
+            if (run == null) {
+                continue;
+            }
+            double before = score(tracked.getValue());
+            double after = score(run);
+            // throughput is better when higher, every other JMH mode measures time
+            double change = "thrpt".equals(run.path("mode").asString())
+                    ? (before - after) / before
+                    : (after - before) / before;
+            String line = String.format("%s: %.3f -> %.3f %s (%+.1f%%)", tracked.getKey(), before, after,
+                    run.path("primaryMetric").path("scoreUnit").asString(), change * 100);
+            System.out.println(line);
+            if (change > threshold) {
+                regressions.add(line);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d benchmark(s) regressed by more than %.0f%%:%n", regressions.size(), threshold * 100);
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode run : results) {
+            String key = run.path("benchmark").asString() + " threads=" + run.path("threads").asInt();
+            if (run.has("params")) {
+                key += " " + run.get("params");
+            }
+            byKey.put(key, run);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonNode run) {
+
+        return run.path("primaryMetric").path("score").asDouble();
+    }
+
+}
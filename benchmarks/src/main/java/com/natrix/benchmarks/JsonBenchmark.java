@@ -0,0 +1,66 @@
+package com.natrix.benchmarks;
+
+import com.natrix.account.constants.AccountsConstants;
+import com.natrix.account.dto.ErrorResponseDto;
+import com.natrix.account.dto.ResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the response envelopes with Jackson 3, the mapper Spring MVC writes response bodies with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private JsonMapper jsonMapper;
+    private ResponseDto responseDto;
+    private ErrorResponseDto errorResponseDto;
+
+    @Setup
+    public void setUp() {
+
+        this.jsonMapper = JsonMapper.builder().build();
+        this.responseDto = new ResponseDto(
+                HttpStatus.CREATED.name(),
+                AccountsConstants.STATUS_201,
+                AccountsConstants.MESSAGE_201,
+                LocalDateTime.now());
+        this.errorResponseDto = new ErrorResponseDto(
+                "uri=/api/fetch;client=127.0.0.1",
+                HttpStatus.NOT_FOUND.name(),
+                HttpStatus.NOT_FOUND.value(),
+                "Customer not found with the given input data mobileNumber : '09345432123'",
+                LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] responseDto() {
+
+        return this.jsonMapper.writeValueAsBytes(this.responseDto);
+    }
+
+    @Benchmark
+    public byte[] errorResponseDto() {
+
+        return this.jsonMapper.writeValueAsBytes(this.errorResponseDto);
+    }
+
+}
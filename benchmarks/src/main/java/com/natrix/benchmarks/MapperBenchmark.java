@@ -0,0 +1,129 @@
+package com.natrix.benchmarks;
+
+import com.natrix.account.dto.AccountsDto;
+import com.natrix.account.dto.CustomerDto;
+import com.natrix.account.entity.Accounts;
+import com.natrix.account.entity.Customer;
+import com.natrix.account.mapper.AccountsMapper;
+import com.natrix.account.mapper.CustomerMapper;
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.entity.Cards;
+import com.natrix.card.mapper.CardsMapper;
+import com.natrix.loan.dto.LoansDto;
+import com.natrix.loan.entity.Loans;
+import com.natrix.loan.mapper.LoansMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done once per request by the services, including the allocation of the target.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Customer customer;
+    private CustomerDto customerDto;
+    private Accounts accounts;
+    private AccountsDto accountsDto;
+    private Cards cards;
+    private CardsDto cardsDto;
+    private Loans loans;
+    private LoansDto loansDto;
+
+    @Setup
+    public void setUp() {
+
+        this.customer = new Customer();
+        this.customer.setCustomerId(1L);
+        this.customer.setName("Eazy Bytes");
+        this.customer.setEmail("tutor@eazybytes.com");
+        this.customer.setMobileNumber("09345432123");
+        this.customerDto = CustomerMapper.mapToDto(this.customer, new CustomerDto());
+
+        this.accounts = new Accounts();
+        this.accounts.setCustomerId(1L);
+        this.accounts.setAccountNumber(1900000003L);
+        this.accounts.setAccountType("Savings");
+        this.accounts.setBranchAddress("123 NewYork");
+        this.accountsDto = AccountsMapper.mapToDto(this.accounts, new AccountsDto());
+
+        this.cards = new Cards();
+        this.cards.setMobileNumber("09345432123");
+        this.cards.setCardNumber("100646930341");
+        this.cards.setCardType("Credit Card");
+        this.cards.setTotalLimit(100000);
+        this.cards.setAmountUsed(1000);
+        this.cards.setAvailableAmount(99000);
+        this.cards.setVersion(3L);
+        this.cardsDto = CardsMapper.mapToDto(this.cards, new CardsDto());
+
+        this.loans = new Loans();
+        this.loans.setMobileNumber("09345432123");
+        this.loans.setLoanNumber("548732457654");
+        this.loans.setLoanType("Home Loan");
+        this.loans.setTotalLoan(100000);
+        this.loans.setAmountPaid(1000);
+        this.loans.setOutstandingAmount(99000);
+        this.loansDto = LoansMapper.mapToDto(this.loans, new LoansDto());
+    }
+
+    @Benchmark
+    public CustomerDto customerToDto() {
+
+        CustomerDto dto = CustomerMapper.mapToDto(this.customer, new CustomerDto());
+        dto.setAccountsDto(AccountsMapper.mapToDto(this.accounts, new AccountsDto()));
+        return dto;
+    }
+
+    @Benchmark
+    public Customer customerToEntity() {
+
+        return CustomerMapper.mapToEntity(this.customerDto, new Customer());
+    }
+
+    @Benchmark
+    public Accounts accountsToEntity() {
+
+        return AccountsMapper.mapToEntity(this.accountsDto, new Accounts());
+    }
+
+    @Benchmark
+    public CardsDto cardsToDto() {
+
+        return CardsMapper.mapToDto(this.cards, new CardsDto());
+    }
+
+    @Benchmark
+    public Cards cardsToEntity() {
+
+        return CardsMapper.mapToEntity(this.cardsDto, new Cards());
+    }
+
+    @Benchmark
+    public LoansDto loansToDto() {
+
+        return LoansMapper.mapToDto(this.loans, new LoansDto());
+    }
+
+    @Benchmark
+    public Loans loansToEntity() {
+
+        return LoansMapper.mapToEntity(this.loansDto, new Loans());
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.natrix.benchmarks;
+
+import com.natrix.account.dto.CustomerDto;
+import com.natrix.card.dto.CardsDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of the request bodies as triggered by {@code @Valid}. The invalid cases fail
+ * only on the mobile number pattern, so they add the violation and message interpolation cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CustomerDto validCustomer;
+    private CustomerDto invalidCustomer;
+    private CardsDto validCard;
+    private CardsDto invalidCard;
+
+    @Setup
+    public void setUp() {
+
+        this.validatorFactory = Validation.buildDefaultValidatorFactory();
+        this.validator = this.validatorFactory.getValidator();
+
+        this.validCustomer = customer("09345432123");
+        this.invalidCustomer = customer("4354437687");
+        this.validCard = card("09345432123");
+        this.invalidCard = card("4354437687");
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        this.validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDto>> validCustomer() {
+
+        return this.validator.validate(this.validCustomer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDto>> invalidCustomerMobileNumber() {
+
+        return this.validator.validate(this.invalidCustomer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CardsDto>> validCard() {
+
+        return this.validator.validate(this.validCard);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CardsDto>> invalidCardMobileNumber() {
+
+        return this.validator.validate(this.invalidCard);
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Eazy Bytes");
+        customerDto.setEmail("tutor@eazybytes.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+
+    private static CardsDto card(String mobileNumber) {
+
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber(mobileNumber);
+        cardsDto.setCardNumber("100646930341");
+        cardsDto.setCardType("Credit Card");
+        cardsDto.setTotalLimit(100000);
+        cardsDto.setAmountUsed(1000);
+        cardsDto.setAvailableAmount(99000);
+        return cardsDto;
+    }
+
+}
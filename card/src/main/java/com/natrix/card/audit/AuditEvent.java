@@ -0,0 +1,34 @@
+package com.natrix.card.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One committed change of an entity as it goes into {@code audit_log}.
+ *
+ * @param entityType - simple class name of the entity
+ * @param entityId   - identifier of the entity
+ * @param action     - kind of change
+ * @param changes    - changed properties with their values before and after
+ * @param changedBy  - auditor of the change
+ * @param changedAt  - time the change was committed
+ */
+public record AuditEvent(String entityType,
+                         String entityId,
+                         Action action,
+                         Map<String, Change> changes,
+                         String changedBy,
+                         LocalDateTime changedAt) {
+
+    public enum Action {
+        CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * @param before - value before the change, null for a created entity
+     * @param after  - value after the change, null for a deleted entity
+     */
+    public record Change(Object before, Object after) {
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.natrix.card.audit;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Turns every committed insert, update and delete of an entity into an {@link AuditEvent}. Runs after
+ * the commit, so rolled back changes never reach the audit trail. Bulk statements bypass the
+ * persistence context and are not seen here, their callers record them with
+ * {@link AuditTrail#recordAfterCommit}.
+ */
+@Component
+@Profile("!reactive")
+public class AuditEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    /**
+     * Stamped on every write, the audit row carries the same information.
+     */
+    private static final Set<String> AUDIT_COLUMNS = Set.of("createdAt", "createdBy", "updatedAt", "updatedBy");
+
+    private final AuditTrail auditTrail;
+
+    private final AuditorAware<String> auditorAware;
+
+    public AuditEventListener(AuditTrail auditTrail, AuditorAware<String> auditorAware,
+                              EntityManagerFactory entityManagerFactory) {
+
+        this.auditTrail = auditTrail;
+        this.auditorAware = auditorAware;
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+
+        record(event.getPersister(), event.getId(), AuditEvent.Action.CREATE, null, event.getState(), null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+
+        record(event.getPersister(), event.getId(), AuditEvent.Action.UPDATE,
+                event.getOldState(), event.getState(), event.getDirtyProperties());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+
+        record(event.getPersister(), event.getId(), AuditEvent.Action.DELETE, event.getDeletedState(), null, null);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // rolled back, nothing to audit
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // rolled back, nothing to audit
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // rolled back, nothing to audit
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+
+        return true;
+    }
+
+    /**
+     * @param before - state before the change, null for an insert
+     * @param after  - state after the change, null for a delete
+     * @param dirty  - indexes of the changed properties, null to compare all of them
+     */
+    private void record(EntityPersister persister, Object id, AuditEvent.Action action,
+                        Object[] before, Object[] after, int[] dirty) {
+
+        String[] names = persister.getPropertyNames();
+        Map<String, AuditEvent.Change> changes = new LinkedHashMap<>();
+        if (dirty != null) {
+            for (int index : dirty) {
+                addChange(changes, names[index], before, after, index);
+            }
+        } else {
+            for (int index = 0; index < names.length; index++) {
+                addChange(changes, names[index], before, after, index);
+            }
+        }
+        if (action == AuditEvent.Action.UPDATE && changes.isEmpty()) {
+            return;
+        }
+
+        this.auditTrail.record(new AuditEvent(
+                persister.getMappedClass().getSimpleName(),
+                String.valueOf(id),
+                action,
+                changes,
+                this.auditorAware.getCurrentAuditor().orElse("UNKNOWN"),
+                LocalDateTime.now()));
+    }
+
+    private static void addChange(Map<String, AuditEvent.Change> changes, String name,
+                                  Object[] before, Object[] after, int index) {
+
+        if (AUDIT_COLUMNS.contains(name)) {
+            return;
+        }
+        Object beforeValue = before != null ? before[index] : null;
+        Object afterValue = after != null ? after[index] : null;
+        if (before != null && after != null && Objects.equals(beforeValue, afterValue)) {
+            return;
+        }
+        changes.put(name, new AuditEvent.Change(beforeValue, afterValue));
+    }
+
+}
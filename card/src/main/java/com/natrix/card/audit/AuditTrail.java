@@ -0,0 +1,214 @@
+package com.natrix.card.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only change history. Events are put on a bounded in-memory queue and a single background
+ * thread writes them to {@code audit_log} in JDBC batches, so an audited request only pays for the
+ * enqueue. When the writer falls behind and the queue is full, a request waits up to
+ * {@code audit.offer-timeout} for room and the event is dropped after that.
+ * <p>
+ * Metrics: {@code audit.queue.size}, {@code audit.queue.remaining}, {@code audit.events.written},
+ * {@code audit.events.dropped}, {@code audit.events.failed} and the {@code audit.flush} timer.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class AuditTrail implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log "
+            + "(entity_type, entity_id, action, changes, changed_by, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final BlockingQueue<AuditEvent> queue;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JsonMapper jsonMapper;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final Duration offerTimeout;
+
+    private final Counter writtenCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public AuditTrail(JdbcTemplate jdbcTemplate,
+                      JsonMapper jsonMapper,
+                      MeterRegistry meterRegistry,
+                      @Value("${audit.queue-capacity:10000}") int queueCapacity,
+                      @Value("${audit.batch-size:500}") int batchSize,
+                      @Value("${audit.flush-interval:1s}") Duration flushInterval,
+                      @Value("${audit.offer-timeout:20ms}") Duration offerTimeout) {
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+
+        Gauge.builder("audit.queue.size", this.queue, Collection::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.remaining", this.queue, BlockingQueue::remainingCapacity)
+                .description("Room left in the audit queue")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Audit events lost because the queue stayed full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events.failed")
+                .description("Audit events lost because their batch could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush").register(meterRegistry);
+    }
+
+    /**
+     * Queues the event for the background writer.
+     *
+     * @param event - committed change
+     */
+    public void record(AuditEvent event) {
+
+        try {
+            if (this.queue.offer(event, this.offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.droppedCounter.increment();
+        log.error("Audit queue full, dropped {} of {} {}", event.action(), event.entityType(), event.entityId());
+    }
+
+    /**
+     * Queues the events once the current transaction has committed, for changes made by bulk statements
+     * that the {@link AuditEventListener} does not see. Outside a transaction they are queued right away.
+     *
+     * @param events - changes written by the current transaction
+     */
+    public void recordAfterCommit(List<AuditEvent> events) {
+
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(AuditTrail.this::record);
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Writes what is still queued before the data source goes away.
+     */
+    @Override
+    public void stop() {
+
+        this.running = false;
+        try {
+            this.writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+
+        return this.running;
+    }
+
+    /**
+     * Stops after the web server, so requests still finishing during a graceful shutdown get their
+     * events written.
+     */
+    @Override
+    public int getPhase() {
+
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void writeLoop() {
+
+        List<AuditEvent> batch = new ArrayList<>(this.batchSize);
+        while (this.running || !this.queue.isEmpty()) {
+            try {
+                AuditEvent first = this.queue.poll(this.flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException ex) {
+                // only stop() ends the loop, the queue still gets drained
+                continue;
+            }
+            this.queue.drainTo(batch, this.batchSize - 1);
+            this.flushTimer.record(() -> this.write(batch));
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+
+        try {
+            this.jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setString(1, event.entityType());
+                ps.setString(2, event.entityId());
+                ps.setString(3, event.action().name());
+                ps.setString(4, this.jsonMapper.writeValueAsString(event.changes()));
+                ps.setString(5, event.changedBy());
+                ps.setTimestamp(6, Timestamp.valueOf(event.changedAt()));
+            });
+            this.writtenCounter.increment(batch.size());
+        } catch (RuntimeException ex) {
+            this.failedCounter.increment(batch.size());
+            log.error("Writing {} audit events failed", batch.size(), ex);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.natrix.card.audit;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component("reactiveAuditAwareImpl")
+@Profile("reactive")
+public class ReactiveAuditAwareImpl implements ReactiveAuditorAware<String> {
+
+    /**
+     * Returns the current auditor of the application.
+     *
+     * @return the current auditor.
+     */
+    @Override
+    public Mono<String> getCurrentAuditor() {
+        return Mono.just("CARDS_MS");
+    }
+
+}
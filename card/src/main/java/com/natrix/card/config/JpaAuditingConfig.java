@@ -0,0 +1,22 @@
+package com.natrix.card.config;
+
+import com.natrix.card.repository.CardsRepository;
+import com.natrix.card.repository.ReactiveCardsRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA side of the card service. The reactive repository lives in the same package and has to be
+ * left out, JPA refuses to implement it.
+ */
+@Configuration
+@Profile("!reactive")
+@EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
+@EnableJpaRepositories(basePackageClasses = CardsRepository.class, excludeFilters =
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveCardsRepository.class))
+public class JpaAuditingConfig {
+}
@@ -0,0 +1,21 @@
+package com.natrix.card.config;
+
+import com.natrix.card.repository.CardsRepository;
+import com.natrix.card.repository.ReactiveCardsRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * R2DBC side of the card service, counterpart of {@link JpaAuditingConfig}.
+ */
+@Configuration
+@Profile("reactive")
+@EnableR2dbcAuditing(auditorAwareRef = "reactiveAuditAwareImpl")
+@EnableR2dbcRepositories(basePackageClasses = ReactiveCardsRepository.class, excludeFilters =
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CardsRepository.class))
+public class R2dbcAuditingConfig {
+}
@@ -0,0 +1,109 @@
+package com.natrix.card.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits the time of every controller call into {@code http.server.requests.handler}, from entering
+ * the controller method to its return value, and {@code http.server.requests.serialization}, from
+ * there until the response body is written. Together with the {@code spring.data.repository.invocations}
+ * and {@code hikaricp.connections.acquire} timers this tells pool wait, query time and serialization
+ * apart for one {@code uri} of {@code http.server.requests}.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestPhaseMetrics implements HandlerInterceptor, ResponseBodyAdvice<Object>, WebMvcConfigurer {
+
+    private static final String STARTED = RequestPhaseMetrics.class.getName() + ".started";
+
+    private static final String HANDLED = RequestPhaseMetrics.class.getName() + ".handled";
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestPhaseMetrics(MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        registry.addInterceptor(this).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        // an async dispatch passes here a second time, the call started with the first one
+        if (request.getAttribute(STARTED) == null) {
+            request.setAttribute(STARTED, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(HANDLED, System.nanoTime());
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+
+        if (!(request.getAttribute(STARTED) instanceof Long started)) {
+            return;
+        }
+        long completed = System.nanoTime();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        if (request.getAttribute(HANDLED) instanceof Long handled) {
+            timer("http.server.requests.handler", "Controller time until the return value", request, uri)
+                    .record(handled - started, TimeUnit.NANOSECONDS);
+            timer("http.server.requests.serialization", "Time writing the response body", request, uri)
+                    .record(completed - handled, TimeUnit.NANOSECONDS);
+        } else {
+            timer("http.server.requests.handler", "Controller time until the return value", request, uri)
+                    .record(completed - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String description, HttpServletRequest request, String uri) {
+
+        return Timer.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(this.meterRegistry);
+    }
+
+}
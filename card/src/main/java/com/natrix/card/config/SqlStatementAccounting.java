@@ -0,0 +1,164 @@
+package com.natrix.card.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Diagnostic mode, on with {@code diagnostics.sql.enabled=true}. Counts the SQL statements Hibernate
+ * prepares while an API request runs and publishes them as {@code http.server.requests.sql.statements}
+ * per uri. A request that runs more statements than the budget, or the same statement shape often
+ * enough to look like an N+1, is counted in {@code http.server.requests.sql.flagged} and a sample of
+ * them is logged with the statement shapes. Statements slower than the threshold go to Hibernate's
+ * {@code org.hibernate.SQL_SLOW} log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "diagnostics.sql.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SqlStatementAccounting implements AsyncHandlerInterceptor, WebMvcConfigurer, HibernatePropertiesCustomizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)*\\)");
+
+    private final ThreadLocal<Map<String, Integer>> statements = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final int statementBudget;
+
+    private final int repeatThreshold;
+
+    private final double logSampleRate;
+
+    private final Duration slowQueryThreshold;
+
+    public SqlStatementAccounting(MeterRegistry meterRegistry,
+                                  @Value("${diagnostics.sql.statement-budget:5}") int statementBudget,
+                                  @Value("${diagnostics.sql.repeat-threshold:3}") int repeatThreshold,
+                                  @Value("${diagnostics.sql.log-sample-rate:1.0}") double logSampleRate,
+                                  @Value("${diagnostics.sql.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+        this.logSampleRate = logSampleRate;
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                (StatementInspector) this::inspect);
+        hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, this.slowQueryThreshold.toMillis());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        registry.addInterceptor(this).addPathPatterns("/api/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        this.statements.set(new LinkedHashMap<>());
+        return true;
+    }
+
+    /**
+     * A streaming response ends on another thread, so the map is taken off the container thread here.
+     * The async dispatch that completes the request starts a new one in {@link #preHandle}.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+
+        this.statements.remove();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+
+        Map<String, Integer> shapes = this.statements.get();
+        this.statements.remove();
+        if (shapes == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int total = shapes.values().stream().mapToInt(Integer::intValue).sum();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(this.meterRegistry)
+                .record(total);
+
+        boolean overBudget = total > this.statementBudget;
+        boolean repeated = shapes.values().stream().anyMatch(count -> count >= this.repeatThreshold);
+        if (!overBudget && !repeated) {
+            return;
+        }
+        Counter.builder("http.server.requests.sql.flagged")
+                .description("Requests over the statement budget or repeating a statement")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("reason", overBudget ? "budget" : "repeated")
+                .register(this.meterRegistry)
+                .increment();
+
+        if (ThreadLocalRandom.current().nextDouble() < this.logSampleRate) {
+            log.warn("sql.flagged method={} uri={} statements={} budget={} shapes={}",
+                    request.getMethod(), uri, total, this.statementBudget,
+                    shapes.entrySet().stream()
+                            .map(shape -> shape.getValue() + "x " + shape.getKey())
+                            .collect(Collectors.joining(" | ", "[", "]")));
+        }
+    }
+
+    private String inspect(String sql) {
+
+        Map<String, Integer> shapes = this.statements.get();
+        if (shapes != null) {
+            shapes.merge(shape(sql), 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * @param sql - statement as prepared, with ? parameters
+     * @return the statement on one line, with IN and VALUES lists of any length collapsed into one shape
+     */
+    static String shape(String sql) {
+
+        String line = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(line).replaceAll("(?...)");
+    }
+
+}
@@ -10,6 +10,24 @@ public class CardsConstants {
 
     public static final Integer NEW_CARD_LIMIT = 1_00_000;
 
+    // one card per mobile number, see V2__card_version_and_lookup_indexes.sql
+    public static final String MOBILE_NUMBER_CONSTRAINT = "uk_cards_mobile_number";
+
+    // GET /api/cards page sizes, request parameter defaults have to be strings
+    public static final String DEFAULT_PAGE_SIZE = "50";
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int EXPORT_FETCH_SIZE = 500;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static final String ACCOUNT_EVENTS_EXCHANGE = "accounts.events";
+
+    public static final String CUSTOMER_DELETED = "customer.deleted";
+
+    public static final String CUSTOMER_DELETED_QUEUE = "card.customer-deleted";
+
     public static final Integer STATUS_201 = 201;
 
     public static final String MESSAGE_201 = "Account created successfully";
@@ -30,6 +48,8 @@ public class CardsConstants {
 
     public static final String MESSAGE_417_DELETE = "Delete operation failed. Please try again or contact Dev team";
 
+    public static final String MESSAGE_417_CHARGE = "Charge operation failed. Please try again or contact Dev team";
+
     // public static final Integer  STATUS_500 = "500";
     // public static final String  MESSAGE_500 = "An error occurred. Please try again or contact Dev team";
 
@@ -3,8 +3,11 @@ package com.natrix.card.controller;
 import com.natrix.card.constants.CardsConstants;
 import com.natrix.card.dto.CardsContactInfoDto;
 import com.natrix.card.dto.CardsDto;
+import com.natrix.card.dto.CardsFilterDto;
+import com.natrix.card.dto.CardsPageDto;
 import com.natrix.card.dto.ErrorResponseDto;
 import com.natrix.card.dto.ResponseDto;
+import com.natrix.card.service.ICardsListingService;
 import com.natrix.card.service.ICardsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,15 +16,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.core.env.Environment;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 @Tag(
@@ -29,12 +48,17 @@ import java.time.LocalDateTime;
         description = "REST APIs for CREATE, UPDATE, FETCH and DELETE Card details"
 )
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "/api/cards", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class CardsController {
 
     private final ICardsService cardService;
 
+    private final ICardsListingService cardsListingService;
+
+    private final JsonMapper jsonMapper;
+
     @Value("${build.version}")
     private String buildVersion;
 
@@ -43,10 +67,14 @@ public class CardsController {
     private final CardsContactInfoDto cardsContactInfoDto;
 
     public CardsController(ICardsService cardService,
+                           ICardsListingService cardsListingService,
+                           JsonMapper jsonMapper,
                            Environment environment,
                            CardsContactInfoDto cardsContactInfoDto) {
 
         this.cardService = cardService;
+        this.cardsListingService = cardsListingService;
+        this.jsonMapper = jsonMapper;
         this.environment = environment;
         this.cardsContactInfoDto = cardsContactInfoDto;
     }
@@ -54,6 +82,11 @@ public class CardsController {
     private static final String MOBILE_REGEX =
             "(^$|^(09\\d{7,9}|\\+959\\d{7,9})$)";
 
+    private static final String CARD_NUMBER_REGEX = "(^$|[0-9]{12})";
+
+    private static final String CSV_HEADER =
+            "mobileNumber,cardNumber,cardType,totalLimit,amountUsed,availableAmount,version\n";
+
     /* ===================== CREATE ===================== */
 
     @Operation(summary = "Create Card", description = "Create a new card using mobile number")
@@ -95,6 +128,65 @@ public class CardsController {
         return ResponseEntity.ok(cardsDto);
     }
 
+    /* ===================== LIST ===================== */
+
+    @Operation(summary = "List Cards",
+            description = "Page through all cards in creation order, pass nextCursor of a page as after to get the next one")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of cards fetched successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping
+    public ResponseEntity<CardsPageDto> listCards(@ParameterObject CardsFilterDto filter,
+                                                  @RequestParam(required = false)
+                                                  Long after,
+                                                  @RequestParam(defaultValue = CardsConstants.DEFAULT_PAGE_SIZE)
+                                                  @Min(value = 1, message = "Size should be at least 1")
+                                                  @Max(value = CardsConstants.MAX_PAGE_SIZE, message = "Size should be at most 500")
+                                                  int size) {
+
+        return ResponseEntity.ok(cardsListingService.listCards(filter, after, size));
+    }
+
+    @Operation(summary = "Export Cards",
+            description = "Stream all matching cards as CSV or NDJSON, read through a database cursor instead of pages")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "One card per line, in creation order"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, CardsConstants.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportCards(@ParameterObject CardsFilterDto filter,
+                                                             @RequestParam(defaultValue = "ndjson")
+                                                             @Pattern(regexp = "csv|ndjson", message = "Format must be csv or ndjson")
+                                                             String format) {
+
+        boolean csv = format.equals("csv");
+
+        StreamingResponseBody body = (OutputStream outputStream) -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write(CSV_HEADER);
+            }
+            cardsListingService.exportCards(filter, card -> {
+                try {
+                    writer.write(csv ? toCsv(card) : jsonMapper.writeValueAsString(card));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType(CardsConstants.TEXT_CSV_VALUE) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("cards." + format).build().toString())
+                .body(body);
+    }
+
     /* ===================== UPDATE ===================== */
 
     @Operation(summary = "Update Card Details", description = "Update card details by card number")
@@ -122,6 +214,40 @@ public class CardsController {
         );
     }
 
+    /* ===================== CHARGE ===================== */
+
+    @Operation(summary = "Charge Card", description = "Add an amount to the used amount of a card if enough is available")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Card charged successfully"),
+            @ApiResponse(responseCode = "400", description = "Available amount is too low",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "417", description = "Charge failed"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/charge")
+    public ResponseEntity<?> chargeCard(@RequestParam
+                                        @Pattern(regexp = CARD_NUMBER_REGEX, message = "CardNumber must be 12 digits")
+                                        String cardNumber,
+                                        @RequestParam
+                                        @Positive(message = "Amount should be greater than zero")
+                                        int amount) {
+
+        boolean charged = cardService.chargeCard(cardNumber, amount);
+
+        return charged
+                ? buildSuccessResponse(
+                CardsConstants.SUCCESS,
+                CardsConstants.STATUS_200,
+                CardsConstants.MESSAGE_200,
+                HttpStatus.OK
+        )
+                : buildErrorResponse(
+                "/charge",
+                CardsConstants.MESSAGE_417_CHARGE
+        );
+    }
+
     /* ===================== DELETE ===================== */
 
     @Operation(summary = "Delete Card", description = "Delete card by mobile number")
@@ -192,6 +318,23 @@ public class CardsController {
 
     /* ===================== COMMON RESPONSE BUILDERS ===================== */
 
+    private static String toCsv(CardsDto card) {
+
+        return String.join(",", csvValue(card.getMobileNumber()), csvValue(card.getCardNumber()),
+                csvValue(card.getCardType()), String.valueOf(card.getTotalLimit()), String.valueOf(card.getAmountUsed()),
+                String.valueOf(card.getAvailableAmount()), String.valueOf(card.getVersion()));
+    }
+
+    private static String csvValue(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        return value.contains(",") || value.contains("\"") || value.contains("\n")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+
     private ResponseEntity<ResponseDto> buildSuccessResponse(
             String status,
             Integer statusCode,
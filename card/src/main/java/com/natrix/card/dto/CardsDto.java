@@ -54,4 +54,10 @@ public class CardsDto {
     )
     private int availableAmount;
 
+    @Schema(
+            description = "Version of the card details, send back the fetched value on update to detect concurrent changes",
+            example = "3"
+    )
+    private Long version;
+
 }
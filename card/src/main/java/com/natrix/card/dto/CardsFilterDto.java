@@ -0,0 +1,32 @@
+package com.natrix.card.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Schema(name = "CardsFilter",
+        description = "Optional filters of the card listing and export, all given ones must match"
+)
+@Data
+public class CardsFilterDto {
+
+    @Schema(
+            description = "Type of the card", example = "Credit Card"
+    )
+    private String cardType;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(
+            description = "Cards created on or after this day", example = "2025-01-01"
+    )
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(
+            description = "Cards created on or before this day", example = "2025-12-31"
+    )
+    private LocalDate createdTo;
+
+}
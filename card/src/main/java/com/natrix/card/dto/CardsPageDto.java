@@ -0,0 +1,27 @@
+package com.natrix.card.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(
+        name = "CardsPage",
+        description = "Schema to hold one page of the card listing"
+)
+public class CardsPageDto {
+
+    @Schema(
+            description = "Cards of the page in creation order"
+    )
+    private List<CardsDto> content;
+
+    @Schema(
+            description = "Pass as after to get the next page, absent on the last page", example = "1050"
+    )
+    private Long nextCursor;
+
+}
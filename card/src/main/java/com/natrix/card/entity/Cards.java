@@ -4,9 +4,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
+@org.springframework.data.relational.core.mapping.Table("cards")
 @Getter
 @Setter
 @ToString
@@ -15,6 +19,7 @@ import lombok.*;
 public class Cards extends BaseEntity {
 
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long cardId;
 
@@ -30,4 +35,8 @@ public class Cards extends BaseEntity {
 
     private int availableAmount;
 
+    // JPA only, Spring Data JPA rejects its own @Version; ReactiveCardsRepository.update checks it in SQL
+    @Version
+    private Long version;
+
 }
@@ -0,0 +1,90 @@
+package com.natrix.card.event;
+
+import com.natrix.card.audit.AuditEvent;
+import com.natrix.card.audit.AuditTrail;
+import com.natrix.card.constants.CardsConstants;
+import com.natrix.card.entity.Cards;
+import com.natrix.card.repository.CardsRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deletes the cards of customers deleted in the accounts service. Messages arrive in batches of up to
+ * {@code spring.rabbitmq.listener.simple.batch-size} and each batch is one bulk DELETE. The cards are
+ * locked and read first, the bulk DELETE is not seen by the audit listener, so their audit records
+ * are written from here. Events can be delivered more than once, deleting again is harmless.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@AllArgsConstructor
+public class CustomerDeletedListener {
+
+    private final CardsRepository cardsRepository;
+
+    private final AuditTrail auditTrail;
+
+    private final AuditorAware<String> auditorAware;
+
+    private final JsonMapper jsonMapper;
+
+    @RabbitListener(queues = CardsConstants.CUSTOMER_DELETED_QUEUE, batch = "true")
+    @Transactional
+    public void onCustomersDeleted(List<Message> messages) {
+
+        Set<String> mobileNumbers = new LinkedHashSet<>();
+        for (Message message : messages) {
+            try {
+                AccountEvent event = this.jsonMapper.readValue(message.getBody(), AccountEvent.class);
+                if (event.mobileNumber() != null) {
+                    mobileNumbers.add(event.mobileNumber());
+                }
+            } catch (JacksonException ex) {
+                // redelivering would not make it readable
+                log.warn("Skipping unreadable customer.deleted event {}", message.getMessageProperties().getMessageId(), ex);
+            }
+        }
+        if (mobileNumbers.isEmpty()) {
+            return;
+        }
+
+        List<Cards> cards = this.cardsRepository.findByMobileNumberIn(mobileNumbers);
+        int deleted = this.cardsRepository.deleteByMobileNumberIn(mobileNumbers);
+        String changedBy = this.auditorAware.getCurrentAuditor().orElse("UNKNOWN");
+        LocalDateTime changedAt = LocalDateTime.now();
+        this.auditTrail.recordAfterCommit(cards.stream()
+                .map(card -> deleted(card, changedBy, changedAt))
+                .toList());
+        log.info("Deleted {} cards of {} deleted customers", deleted, mobileNumbers.size());
+    }
+
+    private static AuditEvent deleted(Cards cards, String changedBy, LocalDateTime changedAt) {
+
+        Map<String, AuditEvent.Change> changes = new LinkedHashMap<>();
+        changes.put("mobileNumber", new AuditEvent.Change(cards.getMobileNumber(), null));
+        changes.put("cardNumber", new AuditEvent.Change(cards.getCardNumber(), null));
+        changes.put("cardType", new AuditEvent.Change(cards.getCardType(), null));
+        changes.put("totalLimit", new AuditEvent.Change(cards.getTotalLimit(), null));
+        changes.put("amountUsed", new AuditEvent.Change(cards.getAmountUsed(), null));
+        changes.put("availableAmount", new AuditEvent.Change(cards.getAvailableAmount(), null));
+        changes.put("version", new AuditEvent.Change(cards.getVersion(), null));
+        return new AuditEvent(Cards.class.getSimpleName(), String.valueOf(cards.getCardId()),
+                AuditEvent.Action.DELETE, changes, changedBy, changedAt);
+    }
+
+}
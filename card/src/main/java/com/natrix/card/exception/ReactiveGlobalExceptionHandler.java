@@ -0,0 +1,77 @@
+package com.natrix.card.exception;
+
+import com.natrix.card.dto.ErrorResponseDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler} for the {@code reactive} profile.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleWebExchangeBindException(WebExchangeBindException exception) {
+
+        Map<String, String> errors = new HashMap<>();
+        exception.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            errors.put(fieldName, error.getDefaultMessage());
+        });
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGlobalException(Exception exception, ServerWebExchange exchange) {
+
+        return buildErrorResponse(exchange, HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage());
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleResourceNotFoundException(ResourceNotFoundException exception,
+                                                                            ServerWebExchange exchange) {
+
+        return buildErrorResponse(exchange, HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    @ExceptionHandler(CardAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponseDto> handleCardAlreadyExistsException(CardAlreadyExistsException exception,
+                                                                             ServerWebExchange exchange) {
+
+        return buildErrorResponse(exchange, HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException exception, ServerWebExchange exchange) {
+
+        return buildErrorResponse(exchange, HttpStatus.CONFLICT,
+                "Card details were changed concurrently, fetch them again and retry");
+    }
+
+    private ResponseEntity<ErrorResponseDto> buildErrorResponse(ServerWebExchange exchange, HttpStatus status,
+                                                                String message) {
+
+        ErrorResponseDto errorResponseDto = new ErrorResponseDto(
+                exchange.getRequest().getPath().value(),
+                status.name(),
+                status.value(),
+                message,
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(errorResponseDto, status);
+    }
+
+}
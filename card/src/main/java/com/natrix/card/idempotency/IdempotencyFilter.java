@@ -0,0 +1,203 @@
+package com.natrix.card.idempotency;
+
+import com.natrix.card.dto.ErrorResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Makes the create endpoints safe to retry, other endpoints are left alone as a buffered response
+ * would break streaming ones. A request carrying an {@code Idempotency-Key} header
+ * runs once, every later request with the same key gets the stored response replayed, marked with
+ * {@code Idempotent-Replayed: true}, without reaching the controller. Server errors release the key so
+ * the request can be retried. Reusing a key for a different request is answered with 422, a retry
+ * arriving while the first attempt still runs with 409.
+ */
+@Component
+@Profile("!reactive")
+@AllArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of("/api/cards/create");
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final JsonMapper jsonMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !IDEMPOTENT_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = fingerprint(cachedRequest);
+        IdempotencyStore.Claim claim = this.idempotencyStore.claim(key, fingerprint);
+
+        switch (claim.outcome()) {
+            case REPLAY -> replay(request, response, claim.response(), fingerprint);
+            case IN_PROGRESS -> writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed, retry later");
+            case CLAIMED -> {
+                ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+                try {
+                    filterChain.doFilter(cachedRequest, cachingResponse);
+                } catch (IOException | ServletException | RuntimeException ex) {
+                    this.idempotencyStore.release(key);
+                    throw ex;
+                }
+                if (cachingResponse.getStatus() >= 500) {
+                    this.idempotencyStore.release(key);
+                } else {
+                    this.idempotencyStore.complete(key, new StoredResponse(fingerprint, cachingResponse.getStatus(),
+                            cachingResponse.getContentType(), cachingResponse.getContentAsByteArray()));
+                }
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, StoredResponse stored,
+                        String fingerprint) throws IOException {
+
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_CONTENT,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+
+        ErrorResponseDto errorResponseDto = new ErrorResponseDto(
+                "uri=" + request.getRequestURI(),
+                status.name(),
+                status.value(),
+                message,
+                LocalDateTime.now()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        this.jsonMapper.writeValue(response.getOutputStream(), errorResponseDto);
+    }
+
+    /**
+     * @return SHA-256 of method, path, query string and body
+     */
+    private static String fingerprint(CachedBodyRequest request) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '?' + request.getQueryString() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Reads the body up front for the fingerprint and serves it again to the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+
+            ByteArrayInputStream in = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("The body is already read, non-blocking reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+    }
+
+}
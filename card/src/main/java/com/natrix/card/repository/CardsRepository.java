@@ -1,8 +1,16 @@
 package com.natrix.card.repository;
 
 import com.natrix.card.entity.Cards;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +20,29 @@ public interface CardsRepository extends BaseRepository<Cards, Long> {
 
     Optional<Cards> findByCardNumber(String cardNumber);
 
+    boolean existsByCardNumber(String cardNumber);
+
+    @Modifying
+    @Query("""
+            update Cards c
+            set c.amountUsed = c.amountUsed + :amount,
+                c.availableAmount = c.availableAmount - :amount,
+                c.version = c.version + 1,
+                c.updatedAt = :updatedAt,
+                c.updatedBy = :updatedBy
+            where c.cardNumber = :cardNumber and c.availableAmount >= :amount
+            """)
+    int charge(@Param("cardNumber") String cardNumber, @Param("amount") int amount,
+               @Param("updatedAt") LocalDateTime updatedAt, @Param("updatedBy") String updatedBy);
+
+    /**
+     * Locks the cards a bulk delete is about to remove, so their audit records name exactly the deleted rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Cards> findByMobileNumberIn(Collection<String> mobileNumbers);
+
+    @Modifying
+    @Query("delete from Cards c where c.mobileNumber in :mobileNumbers")
+    int deleteByMobileNumberIn(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
 }
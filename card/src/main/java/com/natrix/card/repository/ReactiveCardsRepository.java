@@ -0,0 +1,34 @@
+package com.natrix.card.repository;
+
+import com.natrix.card.entity.Cards;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReactiveCardsRepository extends R2dbcRepository<Cards, Long> {
+
+    Mono<Cards> findByMobileNumber(String mobileNumber);
+
+    Mono<Cards> findByCardNumber(String cardNumber);
+
+    @Modifying
+    @Query("""
+            update cards
+            set mobile_number = :#{#cards.mobileNumber},
+                card_type = :#{#cards.cardType},
+                total_limit = :#{#cards.totalLimit},
+                amount_used = :#{#cards.amountUsed},
+                available_amount = :#{#cards.availableAmount},
+                version = version + 1,
+                updated_at = :updatedAt,
+                updated_by = :updatedBy
+            where card_id = :#{#cards.cardId} and version = :#{#cards.version}
+            """)
+    Mono<Integer> update(Cards cards, LocalDateTime updatedAt, String updatedBy);
+
+}
@@ -0,0 +1,15 @@
+package com.natrix.card.service;
+
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.dto.CardsFilterDto;
+import com.natrix.card.dto.CardsPageDto;
+
+import java.util.function.Consumer;
+
+public interface ICardsListingService {
+
+    CardsPageDto listCards(CardsFilterDto filter, Long after, int size);
+
+    void exportCards(CardsFilterDto filter, Consumer<CardsDto> cardConsumer);
+
+}
@@ -11,4 +11,6 @@ public interface ICardsService {
     boolean updateCard(CardsDto cardsDto);
 
     boolean deleteCard(String mobileNumber);
+
+    boolean chargeCard(String cardNumber, int amount);
 }
@@ -0,0 +1,15 @@
+package com.natrix.card.service;
+
+import com.natrix.card.dto.CardsDto;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveCardsService {
+
+    Mono<Void> createCard(String mobileNumber);
+
+    Mono<CardsDto> fetchCard(String mobileNumber);
+
+    Mono<Boolean> updateCard(CardsDto cardsDto);
+
+    Mono<Boolean> deleteCard(String mobileNumber);
+}
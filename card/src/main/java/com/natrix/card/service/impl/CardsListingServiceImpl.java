@@ -0,0 +1,141 @@
+package com.natrix.card.service.impl;
+
+import com.natrix.card.constants.CardsConstants;
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.dto.CardsFilterDto;
+import com.natrix.card.dto.CardsPageDto;
+import com.natrix.card.service.ICardsListingService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@Profile("!reactive")
+public class CardsListingServiceImpl implements ICardsListingService {
+
+    private static final String SELECT_SQL = """
+            SELECT card_id, mobile_number, card_number, card_type, total_limit, amount_used, available_amount, version
+            FROM cards
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public CardsListingServiceImpl(JdbcTemplate jdbcTemplate) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.exportJdbcTemplate.setFetchSize(exportFetchSize(jdbcTemplate.getDataSource()));
+    }
+
+    /**
+     * Seeks past the last card of the previous page on the primary key instead of skipping rows with
+     * OFFSET, so every page costs the same however deep it is. One row more than asked for tells
+     * whether another page follows.
+     *
+     * @param filter - Optional card type and creation date range
+     * @param after - nextCursor of the previous page, null for the first page
+     * @param size - Cards per page
+     * @return the page and the cursor of the next one
+     */
+    @Override
+    public CardsPageDto listCards(CardsFilterDto filter, Long after, int size) {
+
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SQL + where(filter, after, args) + " ORDER BY card_id LIMIT ?";
+        args.add(size + 1);
+
+        List<Row> rows = this.jdbcTemplate.query(sql, (rs, rowNum) -> new Row(rs.getLong("card_id"), mapRow(rs)),
+                args.toArray());
+
+        Long nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = rows.getLast().cardId();
+        }
+        return new CardsPageDto(rows.stream().map(Row::card).toList(), nextCursor);
+    }
+
+    /**
+     * Reads all matching cards through one forward-only cursor and hands them to the consumer one at
+     * a time, so memory stays flat however many rows match.
+     *
+     * @param filter - Optional card type and creation date range
+     * @param cardConsumer - receives every matching card in creation order
+     */
+    @Override
+    public void exportCards(CardsFilterDto filter, Consumer<CardsDto> cardConsumer) {
+
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SQL + where(filter, null, args) + " ORDER BY card_id";
+
+        this.exportJdbcTemplate.query(sql, rs -> {
+            cardConsumer.accept(mapRow(rs));
+        }, args.toArray());
+    }
+
+    private static String where(CardsFilterDto filter, Long after, List<Object> args) {
+
+        List<String> conditions = new ArrayList<>();
+        if (after != null) {
+            conditions.add("card_id > ?");
+            args.add(after);
+        }
+        if (filter.getCardType() != null && !filter.getCardType().isBlank()) {
+            conditions.add("card_type = ?");
+            args.add(filter.getCardType());
+        }
+        if (filter.getCreatedFrom() != null) {
+            conditions.add("created_at >= ?");
+            args.add(Date.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            conditions.add("created_at <= ?");
+            args.add(Date.valueOf(filter.getCreatedTo()));
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static CardsDto mapRow(ResultSet rs) throws SQLException {
+
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber(rs.getString("mobile_number"));
+        cardsDto.setCardNumber(rs.getString("card_number"));
+        cardsDto.setCardType(rs.getString("card_type"));
+        cardsDto.setTotalLimit(rs.getInt("total_limit"));
+        cardsDto.setAmountUsed(rs.getInt("amount_used"));
+        cardsDto.setAvailableAmount(rs.getInt("available_amount"));
+        cardsDto.setVersion(rs.getLong("version"));
+        return cardsDto;
+    }
+
+    /**
+     * MySQL Connector/J buffers the whole result unless the fetch size is {@link Integer#MIN_VALUE},
+     * which makes it stream row by row. Other drivers take the fetch size literally.
+     */
+    private static int exportFetchSize(DataSource dataSource) {
+
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equals(product) ? Integer.MIN_VALUE : CardsConstants.EXPORT_FETCH_SIZE;
+        } catch (MetaDataAccessException ex) {
+            return CardsConstants.EXPORT_FETCH_SIZE;
+        }
+    }
+
+    private record Row(long cardId, CardsDto card) {
+    }
+
+}
@@ -1,36 +1,69 @@
 package com.natrix.card.service.impl;
 
+import com.natrix.card.audit.AuditAwareImpl;
+import com.natrix.card.audit.AuditEvent;
+import com.natrix.card.audit.AuditTrail;
 import com.natrix.card.constants.CardsConstants;
 import com.natrix.card.dto.CardsDto;
 import com.natrix.card.entity.Cards;
 import com.natrix.card.exception.CardAlreadyExistsException;
+import com.natrix.card.exception.CardLimitExceededException;
 import com.natrix.card.exception.ResourceNotFoundException;
 import com.natrix.card.mapper.CardsMapper;
 import com.natrix.card.repository.CardsRepository;
 import com.natrix.card.service.ICardsService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 @Service
+@Profile("!reactive")
 @AllArgsConstructor
 public class CardsServiceImpl implements ICardsService {
 
     private final CardsRepository cardsRepository;
 
+    private final AuditAwareImpl auditAwareImpl;
+
+    private final AuditTrail auditTrail;
+
     /**
+     * A single INSERT, the unique constraint on the mobile number rejects a second card. Checking
+     * with a SELECT first would cost a round trip and still let concurrent creates through.
+     *
      * @param mobileNumber - Mobile Number of the Customer
      */
     @Override
     public void createCard(String mobileNumber) {
 
-        Optional<Cards> optionalCards = this.cardsRepository.findByMobileNumber(mobileNumber);
-        if (optionalCards.isPresent()) {
-            throw new CardAlreadyExistsException("Card already registered with given mobileNumber " + mobileNumber);
+        try {
+            this.cardsRepository.save(createNewCard(mobileNumber));
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateMobileNumber(ex)) {
+                throw new CardAlreadyExistsException("Card already registered with given mobileNumber " + mobileNumber);
+            }
+            throw ex;
         }
-        this.cardsRepository.save(createNewCard(mobileNumber));
+    }
+
+    /**
+     * @param ex - Violation reported by the INSERT
+     * @return true if the mobile number constraint was violated, the message names it on MySQL and H2 alike
+     */
+    static boolean isDuplicateMobileNumber(DataIntegrityViolationException ex) {
+
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(CardsConstants.MOBILE_NUMBER_CONSTRAINT);
     }
 
     /**
@@ -65,15 +98,22 @@ public class CardsServiceImpl implements ICardsService {
     }
 
     /**
+     * The card is versioned, so a concurrent change between read and write fails the update instead
+     * of being overwritten, and only the columns that actually changed are written. A version sent
+     * by the client is checked against the stored one as well.
      *
      * @param cardsDto - CardsDto Object
      * @return boolean indicating if the update of card details is successful or not
      */
+    @Transactional
     @Override
     public boolean updateCard(CardsDto cardsDto) {
 
         Cards cards = this.cardsRepository.findByCardNumber(cardsDto.getCardNumber())
                 .orElseThrow(() -> new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber()));
+        if (cardsDto.getVersion() != null && !Objects.equals(cardsDto.getVersion(), cards.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Cards.class, cards.getCardId());
+        }
         CardsMapper.mapToEntity(cardsDto, cards);
         this.cardsRepository.save(cards);
         return true;
@@ -93,4 +133,38 @@ public class CardsServiceImpl implements ICardsService {
         return true;
     }
 
+    /**
+     * Applies the charge with one conditional UPDATE, without loading the card, so concurrent
+     * charges on the same card can neither be lost nor overdraw it. The card is read back on the row
+     * the UPDATE holds locked for the audit record, which the bulk statement does not get otherwise.
+     *
+     * @param cardNumber - Card Number to charge
+     * @param amount - Amount to add to the used amount
+     * @return boolean indicating if the charge was applied
+     */
+    @Transactional
+    @Override
+    public boolean chargeCard(String cardNumber, int amount) {
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        String updatedBy = this.auditAwareImpl.getCurrentAuditor().orElse(null);
+        int updated = this.cardsRepository.charge(cardNumber, amount, updatedAt, updatedBy);
+        if (updated == 0) {
+            if (!this.cardsRepository.existsByCardNumber(cardNumber)) {
+                throw new ResourceNotFoundException("Card", "CardNumber", cardNumber);
+            }
+            throw new CardLimitExceededException("Available amount on card " + cardNumber + " is less than " + amount);
+        }
+
+        Cards cards = this.cardsRepository.findByCardNumber(cardNumber)
+                .orElseThrow(() -> new ResourceNotFoundException("Card", "CardNumber", cardNumber));
+        this.auditTrail.recordAfterCommit(List.of(new AuditEvent(Cards.class.getSimpleName(),
+                String.valueOf(cards.getCardId()), AuditEvent.Action.UPDATE, Map.of(
+                "amountUsed", new AuditEvent.Change(cards.getAmountUsed() - amount, cards.getAmountUsed()),
+                "availableAmount", new AuditEvent.Change(cards.getAvailableAmount() + amount, cards.getAvailableAmount()),
+                "version", new AuditEvent.Change(cards.getVersion() - 1, cards.getVersion())),
+                Objects.requireNonNullElse(updatedBy, "UNKNOWN"), updatedAt)));
+        return true;
+    }
+
 }
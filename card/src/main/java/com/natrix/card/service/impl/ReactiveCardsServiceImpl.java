@@ -0,0 +1,115 @@
+package com.natrix.card.service.impl;
+
+import com.natrix.card.constants.CardsConstants;
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.entity.Cards;
+import com.natrix.card.exception.CardAlreadyExistsException;
+import com.natrix.card.exception.ResourceNotFoundException;
+import com.natrix.card.mapper.CardsMapper;
+import com.natrix.card.repository.ReactiveCardsRepository;
+import com.natrix.card.service.IReactiveCardsService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.ReactiveAuditorAware;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveCardsServiceImpl implements IReactiveCardsService {
+
+    private final ReactiveCardsRepository cardsRepository;
+
+    private final ReactiveAuditorAware<String> auditorAware;
+
+    /**
+     * A single INSERT against the unique mobile number, as in {@link CardsServiceImpl#createCard(String)}.
+     *
+     * @param mobileNumber - Mobile Number of the Customer
+     */
+    @Override
+    public Mono<Void> createCard(String mobileNumber) {
+
+        return this.cardsRepository.save(createNewCard(mobileNumber))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> CardsServiceImpl.isDuplicateMobileNumber(ex)
+                                ? new CardAlreadyExistsException("Card already registered with given mobileNumber " + mobileNumber)
+                                : ex)
+                .then();
+    }
+
+    /**
+     * @param mobileNumber - Mobile Number of the Customer
+     * @return the new card details
+     */
+    private Cards createNewCard(String mobileNumber) {
+
+        Cards newCard = new Cards();
+        long randomCardNumber = 100000000000L + ThreadLocalRandom.current().nextInt(900000000);
+        newCard.setCardNumber(Long.toString(randomCardNumber));
+        newCard.setMobileNumber(mobileNumber);
+        newCard.setCardType(CardsConstants.CREDIT_CARD);
+        newCard.setTotalLimit(CardsConstants.NEW_CARD_LIMIT);
+        newCard.setAmountUsed(0);
+        newCard.setAvailableAmount(CardsConstants.NEW_CARD_LIMIT);
+        newCard.setVersion(0L);
+        return newCard;
+    }
+
+    /**
+     *
+     * @param mobileNumber - Input mobile Number
+     * @return Card Details based on a given mobileNumber
+     */
+    @Override
+    public Mono<CardsDto> fetchCard(String mobileNumber) {
+
+        return this.cardsRepository.findByMobileNumber(mobileNumber)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)))
+                .map(cards -> CardsMapper.mapToDto(cards, new CardsDto()));
+    }
+
+    /**
+     *
+     * @param cardsDto - CardsDto Object
+     * @return boolean indicating if the update of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> updateCard(CardsDto cardsDto) {
+
+        return this.cardsRepository.findByCardNumber(cardsDto.getCardNumber())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "CardNumber", cardsDto.getCardNumber())))
+                .flatMap(cards -> {
+                    Long cardId = cards.getCardId();
+                    if (cardsDto.getVersion() != null) {
+                        cards.setVersion(cardsDto.getVersion());
+                    }
+                    CardsMapper.mapToEntity(cardsDto, cards);
+                    return this.auditorAware.getCurrentAuditor()
+                            .flatMap(auditor -> this.cardsRepository.update(cards, LocalDateTime.now(), auditor))
+                            .filter(updated -> updated > 0)
+                            .switchIfEmpty(Mono.error(() -> new ObjectOptimisticLockingFailureException(Cards.class, cardId)));
+                })
+                .thenReturn(true);
+    }
+
+    /**
+     * @param mobileNumber - Input MobileNumber
+     * @return boolean indicating if the delete of card details is successful or not
+     */
+    @Override
+    public Mono<Boolean> deleteCard(String mobileNumber) {
+
+        return this.cardsRepository.findByMobileNumber(mobileNumber)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Card", "mobileNumber", mobileNumber)))
+                .flatMap(cards -> this.cardsRepository.deleteById(cards.getCardId()))
+                .thenReturn(true);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.natrix.card.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the config snapshot in step with the config server. When the service started from the
+ * snapshot, or without the config server, it refreshes in the background until the config server
+ * answers, then logs which properties differed from the snapshot and drops the snapshot's property
+ * source. Every configuration fetched, at startup or by a later refresh, is written to the snapshot
+ * together with the active profiles.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ConfigSnapshot.ENABLED_PROPERTY, matchIfMissing = true)
+public class ConfigSnapshotReconciler implements DisposableBean {
+
+    private final ApplicationContext applicationContext;
+
+    private final ConfigurableEnvironment environment;
+
+    private final ContextRefresher contextRefresher;
+
+    private final Duration retryInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("config-snapshot").factory());
+
+    public ConfigSnapshotReconciler(ApplicationContext applicationContext, ConfigurableEnvironment environment,
+                                    ContextRefresher contextRefresher,
+                                    @Value("${config-snapshot.retry-interval:30s}") Duration retryInterval) {
+
+        this.applicationContext = applicationContext;
+        this.environment = environment;
+        this.contextRefresher = contextRefresher;
+        this.retryInterval = retryInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+
+        if (this.environment.getPropertySources().contains(ConfigSnapshot.PROPERTY_SOURCE_NAME)) {
+            this.scheduler.execute(this::reconcile);
+        } else if (!ConfigSnapshot.fromConfigServer(this.environment).isEmpty()) {
+            save();
+        } else if (usesConfigServer()) {
+            // the optional import gave up on the config server
+            this.scheduler.execute(this::reconcile);
+        }
+    }
+
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange() {
+
+        save();
+    }
+
+    @Override
+    public void destroy() {
+
+        this.scheduler.shutdownNow();
+    }
+
+    private boolean usesConfigServer() {
+
+        return this.environment.getProperty("spring.cloud.config.enabled", Boolean.class, true)
+                && this.environment.getProperty("spring.config.import", "").contains("configserver:");
+    }
+
+    private void reconcile() {
+
+        try {
+            this.contextRefresher.refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh from the config server: {}", ex.getMessage());
+        }
+        if (ConfigSnapshot.fromConfigServer(this.environment).isEmpty()) {
+            log.info("Config server not reachable, retrying in {}", this.retryInterval);
+            this.scheduler.schedule(this::reconcile, this.retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the properties of the config server, if the environment has them, and retires the snapshot
+     * property source they replace.
+     */
+    private void save() {
+
+        Map<String, String> current = ConfigSnapshot.fromConfigServer(this.environment);
+        if (current.isEmpty()) {
+            return;
+        }
+        current.put(ConfigSnapshot.PROFILES_PROPERTY, ConfigSnapshot.profiles(this.environment));
+
+        Path path = ConfigSnapshot.path(this.environment);
+        try {
+            Map<String, String> previous = Files.isReadable(path) ? ConfigSnapshot.read(path) : Map.of();
+            Set<String> differences = ConfigSnapshot.differences(previous, current);
+            if (!differences.isEmpty()) {
+                ConfigSnapshot.write(path, current);
+                log.info("Config snapshot {} updated, {} properties differed: {}", path, differences.size(),
+                        differences);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Could not update the config snapshot {}: {}", path, ex.getMessage());
+        }
+
+        retireSnapshotSource();
+    }
+
+    /**
+     * The snapshot's property source takes precedence over the config server ones, so the refresh that
+     * fetched them did not report the keys whose values differ from the snapshot. They are compared
+     * here as the source is dropped and published as an {@link EnvironmentChangeEvent}, so the beans
+     * bound to them are rebound.
+     */
+    private void retireSnapshotSource() {
+
+        PropertySource<?> snapshot = this.environment.getPropertySources().get(ConfigSnapshot.PROPERTY_SOURCE_NAME);
+        if (!(snapshot instanceof EnumerablePropertySource<?> enumerable)) {
+            return;
+        }
+
+        Map<String, String> before = new HashMap<>();
+        for (String name : enumerable.getPropertyNames()) {
+            before.put(name, this.environment.getProperty(name));
+        }
+        this.environment.getPropertySources().remove(ConfigSnapshot.PROPERTY_SOURCE_NAME);
+        Set<String> changed = new TreeSet<>();
+        before.forEach((name, value) -> {
+            if (!name.equals(ConfigSnapshot.PROFILES_PROPERTY)
+                    && !Objects.equals(value, this.environment.getProperty(name))) {
+                changed.add(name);
+            }
+        });
+
+        log.info("Reconciled with the config server, no longer using the config snapshot, {} properties changed: {}",
+                changed.size(), changed);
+        if (!changed.isEmpty()) {
+            this.applicationContext.publishEvent(new EnvironmentChangeEvent(this.applicationContext, changed));
+        }
+    }
+
+}
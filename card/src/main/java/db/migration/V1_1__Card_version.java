@@ -0,0 +1,33 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Optimistic locking of card updates, see Cards.version. Databases created by the former schema.sql
+ * already have the column when baseline-on-migrate adopts them, and MySQL has no
+ * {@code ADD COLUMN IF NOT EXISTS}, so the column is looked up first.
+ */
+public class V1_1__Card_version extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+
+        Connection connection = context.getConnection();
+        try (ResultSet columns = connection.getMetaData()
+                .getColumns(connection.getCatalog(), connection.getSchema(), "cards", "version")) {
+            if (columns.next()) {
+                return;
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE `cards` ADD COLUMN `version` bigint NOT NULL DEFAULT 0 AFTER `available_amount`");
+        }
+    }
+
+}
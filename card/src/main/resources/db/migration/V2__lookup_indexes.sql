@@ -0,0 +1,5 @@
+-- CardsRepository.findByMobileNumber, one card per mobile number
+ALTER TABLE `cards` ADD CONSTRAINT `uk_cards_mobile_number` UNIQUE (`mobile_number`);
+
+-- CardsRepository.findByCardNumber / existsByCardNumber / charge
+ALTER TABLE `cards` ADD CONSTRAINT `uk_cards_card_number` UNIQUE (`card_number`);
@@ -0,0 +1,102 @@
+package com.natrix.card.controller;
+
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.entity.Cards;
+import com.natrix.card.exception.ResourceNotFoundException;
+import com.natrix.card.service.IReactiveCardsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@WebFluxTest(controllers = ReactiveCardsController.class, properties = "spring.cloud.config.enabled=false")
+@ActiveProfiles("reactive")
+class ReactiveCardsControllerTests {
+
+    private static final String MOBILE_NUMBER = "0911000001";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private IReactiveCardsService cardsService;
+
+    @Test
+    void createCardAnswersCreated() {
+
+        given(this.cardsService.createCard(MOBILE_NUMBER)).willReturn(Mono.empty());
+
+        this.webTestClient.post()
+                .uri(uri -> uri.path("/api/cards/create").queryParam("mobileNumber", MOBILE_NUMBER).build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(201);
+
+        verify(this.cardsService).createCard(MOBILE_NUMBER);
+    }
+
+    @Test
+    void fetchCardAnswersCardDetails() {
+
+        given(this.cardsService.fetchCard(MOBILE_NUMBER)).willReturn(Mono.just(cardsDto()));
+
+        this.webTestClient.get()
+                .uri(uri -> uri.path("/api/cards/fetch").queryParam("mobileNumber", MOBILE_NUMBER).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.cardNumber").isEqualTo("100646930341")
+                .jsonPath("$.availableAmount").isEqualTo(100_000);
+    }
+
+    @Test
+    void fetchCardOfUnknownMobileNumberAnswersNotFound() {
+
+        given(this.cardsService.fetchCard(MOBILE_NUMBER))
+                .willReturn(Mono.error(new ResourceNotFoundException("Card", "mobileNumber", MOBILE_NUMBER)));
+
+        this.webTestClient.get()
+                .uri(uri -> uri.path("/api/cards/fetch").queryParam("mobileNumber", MOBILE_NUMBER).build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(404);
+    }
+
+    @Test
+    void updateOfConcurrentlyChangedCardAnswersConflict() {
+
+        given(this.cardsService.updateCard(any(CardsDto.class)))
+                .willReturn(Mono.error(new ObjectOptimisticLockingFailureException(Cards.class, 1L)));
+
+        this.webTestClient.put()
+                .uri("/api/cards/update")
+                .bodyValue(cardsDto())
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(409);
+    }
+
+    private static CardsDto cardsDto() {
+
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber(MOBILE_NUMBER);
+        cardsDto.setCardNumber("100646930341");
+        cardsDto.setCardType("Credit Card");
+        cardsDto.setTotalLimit(100_000);
+        cardsDto.setAvailableAmount(100_000);
+        cardsDto.setVersion(3L);
+        return cardsDto;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.natrix.card.service.impl;
+
+import com.natrix.card.audit.AuditAwareImpl;
+import com.natrix.card.config.JpaAuditingConfig;
+import com.natrix.card.dto.CardsDto;
+import com.natrix.card.dto.CardsFilterDto;
+import com.natrix.card.dto.CardsPageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({CardsListingServiceImpl.class, AuditAwareImpl.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CardsListingServiceImplTests {
+
+    private static final String CREDIT = "Credit Card";
+
+    private static final String DEBIT = "Debit Card";
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private CardsListingServiceImpl cardsListingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteCards() {
+
+        this.jdbcTemplate.update("DELETE FROM cards");
+    }
+
+    @Test
+    void pageFilledByTheLastRowsHasNoNextCursor() {
+
+        insert("100000000002", CREDIT, DAY);
+        long second = insert("100000000003", CREDIT, DAY);
+        insert("100000000004", CREDIT, DAY);
+        insert("100000000005", CREDIT, DAY);
+
+        CardsPageDto first = this.cardsListingService.listCards(new CardsFilterDto(), null, 2);
+        assertThat(cardNumbers(first.getContent())).containsExactly("100000000002", "100000000003");
+        assertThat(first.getNextCursor()).isEqualTo(second);
+
+        CardsPageDto last = this.cardsListingService.listCards(new CardsFilterDto(), first.getNextCursor(), 2);
+        assertThat(cardNumbers(last.getContent())).containsExactly("100000000004", "100000000005");
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorOfThePreviousPageIsExcluded() {
+
+        insert("100000000002", CREDIT, DAY);
+        insert("100000000003", CREDIT, DAY);
+        long third = insert("100000000004", CREDIT, DAY);
+
+        CardsPageDto next = this.cardsListingService.listCards(new CardsFilterDto(), third - 1, 5);
+
+        assertThat(cardNumbers(next.getContent())).containsExactly("100000000004");
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void typeAndCreationDaysFilterTheCards() {
+
+        insert("100000000001", CREDIT, DAY.minusDays(1));
+        insert("100000000002", CREDIT, DAY);
+        insert("100000000003", DEBIT, DAY);
+        insert("100000000004", CREDIT, DAY.plusDays(1));
+        insert("100000000005", CREDIT, DAY.plusDays(2));
+
+        CardsFilterDto filter = new CardsFilterDto();
+        filter.setCardType(CREDIT);
+        filter.setCreatedFrom(DAY);
+        filter.setCreatedTo(DAY.plusDays(1));
+
+        // both days of the range are included
+        assertThat(cardNumbers(this.cardsListingService.listCards(filter, null, 10).getContent()))
+                .containsExactly("100000000002", "100000000004");
+
+        filter.setCardType(" ");
+        assertThat(cardNumbers(this.cardsListingService.listCards(filter, null, 10).getContent()))
+                .containsExactly("100000000002", "100000000003", "100000000004");
+    }
+
+    @Test
+    void exportReturnsEveryCardInCreationOrder() {
+
+        List<String> inserted = IntStream.range(0, 1200)
+                .mapToObj(i -> String.valueOf(999999999999L - i))
+                .toList();
+        this.jdbcTemplate.batchUpdate("INSERT INTO cards (mobile_number, card_number, card_type, total_limit, "
+                        + "amount_used, available_amount, created_at, created_by) VALUES (?, ?, ?, 100000, 0, 100000, ?, 'TEST')",
+                inserted, 500, (ps, cardNumber) -> {
+                    ps.setString(1, "09" + cardNumber.substring(4));
+                    ps.setString(2, cardNumber);
+                    ps.setString(3, CREDIT);
+                    ps.setDate(4, Date.valueOf(DAY));
+                });
+
+        List<CardsDto> exported = new ArrayList<>();
+        this.cardsListingService.exportCards(new CardsFilterDto(), exported::add);
+
+        assertThat(cardNumbers(exported)).containsExactlyElementsOf(inserted);
+    }
+
+    /**
+     * @return card_id of the new card
+     */
+    private long insert(String cardNumber, String cardType, LocalDate createdAt) {
+
+        this.jdbcTemplate.update("INSERT INTO cards (mobile_number, card_number, card_type, total_limit, amount_used, "
+                        + "available_amount, created_at, created_by) VALUES (?, ?, ?, 100000, 0, 100000, ?, 'TEST')",
+                "09" + cardNumber.substring(4), cardNumber, cardType, Date.valueOf(createdAt));
+        return this.jdbcTemplate.queryForObject("SELECT card_id FROM cards WHERE card_number = ?", Long.class,
+                cardNumber);
+    }
+
+    private static List<String> cardNumbers(List<CardsDto> cards) {
+
+        return cards.stream().map(CardsDto::getCardNumber).toList();
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.natrix.card.service.impl;
+
+import com.natrix.card.audit.AuditAwareImpl;
+import com.natrix.card.audit.AuditTrail;
+import com.natrix.card.config.JpaAuditingConfig;
+import com.natrix.card.exception.CardAlreadyExistsException;
+import com.natrix.card.repository.CardsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({CardsServiceImpl.class, AuditAwareImpl.class, JpaAuditingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CardsServiceImplTests {
+
+    private static final int THREADS = 100;
+
+    @Autowired
+    private CardsServiceImpl cardsService;
+
+    @Autowired
+    private CardsRepository cardsRepository;
+
+    @MockitoBean
+    private AuditTrail auditTrail;
+
+    @AfterEach
+    void deleteCards() {
+
+        this.cardsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentCreatesForOneMobileNumberCreateOneCard() throws InterruptedException {
+
+        String mobileNumber = "0911000001";
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> creates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                creates.add(executor.submit(() -> {
+                    start.await();
+                    this.cardsService.createCard(mobileNumber);
+                    return null;
+                }));
+            }
+            start.countDown();
+        }
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<?> create : creates) {
+            try {
+                create.get();
+                created++;
+            } catch (ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(CardAlreadyExistsException.class);
+                rejected++;
+            }
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(rejected).isEqualTo(THREADS - 1);
+        assertThat(this.cardsRepository.findByMobileNumber(mobileNumber)).isPresent();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.natrix.configserver.bus;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.bus.BusBridge;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds back the refresh events sent to the bus for a window after the first one and then sends one
+ * event per distinct destination, or a single one when any of them addressed every application. A burst
+ * of commits or {@code /busrefresh} calls therefore reaches each client once. Other events are sent
+ * right away.
+ */
+public class CoalescingBusBridge implements BusBridge, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingBusBridge.class);
+
+    private static final String ALL_APPLICATIONS = "**";
+
+    private final BusBridge delegate;
+
+    private final Destination.Factory destinationFactory;
+
+    private final Duration window;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("bus-refresh-coalescer").factory());
+
+    private final Set<String> pendingDestinations = new LinkedHashSet<>();
+
+    private String pendingOrigin;
+
+    private int pendingEvents;
+
+    /**
+     * @param delegate - Bridge that sends to the broker
+     * @param destinationFactory - Builds the destinations of the merged events
+     * @param window - Time refresh events are collected for after the first one
+     */
+    public CoalescingBusBridge(BusBridge delegate, Destination.Factory destinationFactory, Duration window) {
+
+        this.delegate = delegate;
+        this.destinationFactory = destinationFactory;
+        this.window = window;
+    }
+
+    @Override
+    public void send(RemoteApplicationEvent event) {
+
+        if (!(event instanceof RefreshRemoteApplicationEvent)) {
+            this.delegate.send(event);
+            return;
+        }
+
+        synchronized (this.pendingDestinations) {
+            if (this.pendingEvents == 0) {
+                this.pendingOrigin = event.getOriginService();
+                this.scheduler.schedule(this::flush, this.window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            this.pendingEvents++;
+            this.pendingDestinations.add(event.getDestinationService());
+        }
+    }
+
+    @Override
+    public void destroy() {
+
+        this.scheduler.shutdownNow();
+        flush();
+    }
+
+    private void flush() {
+
+        Set<String> destinations;
+        String origin;
+        int events;
+        synchronized (this.pendingDestinations) {
+            if (this.pendingEvents == 0) {
+                return;
+            }
+            destinations = this.pendingDestinations.contains(ALL_APPLICATIONS)
+                    ? Set.of(ALL_APPLICATIONS)
+                    : new LinkedHashSet<>(this.pendingDestinations);
+            origin = this.pendingOrigin;
+            events = this.pendingEvents;
+            this.pendingDestinations.clear();
+            this.pendingEvents = 0;
+        }
+
+        log.info("Sending {} refresh events as one per destination: {}", events, destinations);
+        for (String destination : destinations) {
+            try {
+                this.delegate.send(new RefreshRemoteApplicationEvent(this, origin,
+                        this.destinationFactory.getDestination(destination)));
+            } catch (RuntimeException ex) {
+                log.warn("Could not send the refresh event for {}: {}", destination, ex.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.natrix.configserver.config;
+
+import com.natrix.configserver.bus.CoalescingBusBridge;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.bus.BusBridge;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.PathDestinationFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "bus-refresh.coalesce.enabled", matchIfMissing = true)
+public class BusRefreshCoalescingConfig {
+
+    /**
+     * Wraps the bridge to the broker, so refresh events from {@code /busrefresh} and from the native
+     * directory watcher are coalesced alike.
+     */
+    @Bean
+    static BeanPostProcessor coalescingBusBridgePostProcessor(Environment environment,
+                                                              ObjectProvider<Destination.Factory> destinationFactory) {
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof BusBridge busBridge && !(bean instanceof CoalescingBusBridge)) {
+                    return new CoalescingBusBridge(busBridge,
+                            destinationFactory.getIfAvailable(PathDestinationFactory::new),
+                            environment.getProperty("bus-refresh.coalesce.window", Duration.class,
+                                    Duration.ofSeconds(2)));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.natrix.configserver.config;
+
+import com.natrix.configserver.environment.CachingEnvironmentRepository;
+import com.natrix.configserver.environment.EnvironmentCachePrewarmer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.config.server.environment.CompositeEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "environment-cache.enabled", matchIfMissing = true)
+public class EnvironmentCacheConfig {
+
+    /**
+     * Wraps the backend repositories rather than the composite in front of them, because only the
+     * backends report the version (the commit id) an environment is resolved from.
+     */
+    @Bean
+    static BeanPostProcessor cachingEnvironmentRepositoryPostProcessor(Environment environment,
+                                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof EnvironmentRepository repository
+                        && bean instanceof SearchPathLocator
+                        && !(bean instanceof CompositeEnvironmentRepository)
+                        && !(bean instanceof CachingEnvironmentRepository)) {
+                    return wrap(repository, environment.getProperty("environment-cache.max-entries", Integer.class, 500),
+                            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends EnvironmentRepository & SearchPathLocator> CachingEnvironmentRepository wrap(
+            EnvironmentRepository repository, int maxEntries, MeterRegistry meterRegistry) {
+
+        return new CachingEnvironmentRepository((T) repository, maxEntries, meterRegistry);
+    }
+
+    /**
+     * Tags every environment response with an ETag of its body and answers a request whose
+     * If-None-Match still matches with 304, so clients polling an unchanged environment get no body.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(
+                new ShallowEtagHeaderFilter() {
+
+                    @Override
+                    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+                        return request.getRequestURI().startsWith("/actuator");
+                    }
+                });
+        registration.setName("shallowEtagHeaderFilter");
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "environment-cache.prewarm.enabled", matchIfMissing = true)
+    public EnvironmentCachePrewarmer environmentCachePrewarmer(EnvironmentRepository environmentRepository,
+                                                               ResourcePatternResolver resourcePatternResolver,
+                                                               Environment environment) {
+
+        return new EnvironmentCachePrewarmer(environmentRepository, resourcePatternResolver,
+                environment.getProperty("environment-cache.prewarm.locations", "classpath:/config/*.yaml"));
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.natrix.configserver.config;
+
+import com.natrix.configserver.environment.WatchingNativeEnvironmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Configuration
+@Profile("native")
+@ConditionalOnProperty(name = "environment-watch.enabled", matchIfMissing = true)
+public class NativeWatchConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(NativeWatchConfig.class);
+
+    /**
+     * Replaces the stock native repository, which starts a throwaway Spring application to resolve
+     * every request, with one that keeps the parsed files and watches their directories.
+     */
+    @Bean
+    static WatchingNativeEnvironmentRepositoryPostProcessor watchingNativeEnvironmentRepositoryPostProcessor(
+            Environment environment, ResourceLoader resourceLoader, ApplicationEventPublisher eventPublisher,
+            ObjectProvider<BusProperties> busProperties, ObjectProvider<Destination.Factory> destinationFactory) {
+
+        return new WatchingNativeEnvironmentRepositoryPostProcessor(environment, resourceLoader, changedApplications -> {
+            BusProperties bus = busProperties.getIfAvailable();
+            Destination.Factory destinations = destinationFactory.getIfAvailable();
+            if (bus == null || destinations == null) {
+                log.info("Spring Cloud Bus is disabled, clients of {} are not told to refresh", changedApplications);
+                return;
+            }
+            for (String application : changedApplications) {
+                String destination = WatchingNativeEnvironmentRepository.SHARED_APPLICATION.equals(application)
+                        ? "**"
+                        : application + ":**";
+                eventPublisher.publishEvent(new RefreshRemoteApplicationEvent(NativeWatchConfig.class, bus.getId(),
+                        destinations.getDestination(destination)));
+            }
+        });
+    }
+
+    /**
+     * Runs before the post processor of {@link EnvironmentCacheConfig}, so the cache wraps the watching
+     * repository rather than the one it replaces. The bean method declares this type, as the order is
+     * read from it before the post processors are created.
+     */
+    static class WatchingNativeEnvironmentRepositoryPostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+        private final Environment environment;
+
+        private final ResourceLoader resourceLoader;
+
+        private final Consumer<Set<String>> changeListener;
+
+        WatchingNativeEnvironmentRepositoryPostProcessor(Environment environment, ResourceLoader resourceLoader,
+                                                         Consumer<Set<String>> changeListener) {
+
+            this.environment = environment;
+            this.resourceLoader = resourceLoader;
+            this.changeListener = changeListener;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+            if (!(bean instanceof NativeEnvironmentRepository nativeRepository)) {
+                return bean;
+            }
+
+            List<Path> directories = directories(nativeRepository.getSearchLocations());
+            if (directories.isEmpty()) {
+                log.warn("No search location of {} is a directory, configuration changes are not watched", beanName);
+                return bean;
+            }
+
+            WatchingNativeEnvironmentRepository repository = new WatchingNativeEnvironmentRepository(directories,
+                    this.environment.getProperty("environment-watch.quiet-period", Duration.class,
+                            Duration.ofMillis(200)),
+                    this.changeListener);
+            repository.setOrder(nativeRepository.getOrder());
+            try {
+                repository.start();
+            } catch (IOException ex) {
+                throw new BeanInitializationException("Could not watch " + directories, ex);
+            }
+            return repository;
+        }
+
+        @Override
+        public int getOrder() {
+
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        /**
+         * Search locations inside a jar cannot be watched, run the server against a file location, e.g.
+         * {@code file:./config}, or from an exploded build to pick up changes.
+         */
+        private List<Path> directories(String[] searchLocations) {
+
+            List<Path> directories = new ArrayList<>();
+            for (String location : searchLocations) {
+                Resource resource = this.resourceLoader.getResource(location);
+                try {
+                    File file = resource.getFile();
+                    if (file.isDirectory()) {
+                        directories.add(file.toPath());
+                    }
+                } catch (IOException ex) {
+                    log.debug("Search location {} is not a directory: {}", location, ex.getMessage());
+                }
+            }
+            return directories;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.natrix.configserver.environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the resolved environment of every application, profile and label together with the version
+ * (the git commit id) it was resolved from. A request only asks the backend for the current version,
+ * which costs at most a fetch, and gets the cached environment while that is unchanged, so the YAML
+ * is parsed once per commit instead of once per request. Concurrent requests for an environment that
+ * is not cached yet wait for a single resolution.
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository, SearchPathLocator, Ordered {
+
+    private final EnvironmentRepository delegate;
+
+    private final SearchPathLocator locator;
+
+    private final int maxEntries;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * @param delegate - Backend that resolves environments, also a {@link SearchPathLocator} reporting the version
+     * @param maxEntries - Environments kept at most, further ones are resolved on every request
+     * @param meterRegistry - Registry of the hit and miss counters
+     */
+    public <T extends EnvironmentRepository & SearchPathLocator> CachingEnvironmentRepository(T delegate, int maxEntries,
+                                                                                            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.locator = delegate;
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder("config.environment.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("config.environment.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label) {
+
+        return findOne(application, profile, label, false);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+
+        String version = this.locator.getLocations(application, profile, label).getVersion();
+        if (version == null) {
+            // nothing to tell a stale environment from a current one
+            return this.delegate.findOne(application, profile, label, includeOrigin);
+        }
+
+        Key key = new Key(application, profile, label, includeOrigin);
+        Entry cached = this.entries.get(key);
+        if (cached != null && cached.version().equals(version)) {
+            this.hits.increment();
+            return await(cached.environment());
+        }
+        if (cached == null && this.entries.size() >= this.maxEntries) {
+            this.misses.increment();
+            return this.delegate.findOne(application, profile, label, includeOrigin);
+        }
+
+        Entry resolving = new Entry(version, new CompletableFuture<>());
+        Entry entry = this.entries.compute(key,
+                (k, current) -> current != null && current.version().equals(version) ? current : resolving);
+        if (entry == resolving) {
+            this.misses.increment();
+            try {
+                resolving.environment().complete(this.delegate.findOne(application, profile, label, includeOrigin));
+            } catch (RuntimeException ex) {
+                this.entries.remove(key, resolving);
+                resolving.environment().completeExceptionally(ex);
+                throw ex;
+            }
+        } else {
+            this.hits.increment();
+        }
+        return await(entry.environment());
+    }
+
+    @Override
+    public Locations getLocations(String application, String profile, String label) {
+
+        return this.locator.getLocations(application, profile, label);
+    }
+
+    @Override
+    public int getOrder() {
+
+        return this.delegate instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * @return the number of environments currently cached
+     */
+    public int size() {
+
+        return this.entries.size();
+    }
+
+    private static Environment await(CompletableFuture<Environment> environment) {
+
+        try {
+            return environment.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Key(String application, String profile, String label, boolean includeOrigin) {
+    }
+
+    private record Entry(String version, CompletableFuture<Environment> environment) {
+    }
+
+}
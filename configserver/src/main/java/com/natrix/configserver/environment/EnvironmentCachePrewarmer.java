@@ -0,0 +1,88 @@
+package com.natrix.configserver.environment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the environment of every known application and profile before the server reports ready,
+ * so the first wave of clients after a deploy is served from the cache. Applications and profiles are
+ * taken from the names of the {@code <application>[-<profile>].yaml} files matching the pattern.
+ */
+public class EnvironmentCachePrewarmer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvironmentCachePrewarmer.class);
+
+    private final EnvironmentRepository environmentRepository;
+
+    private final ResourcePatternResolver resourcePatternResolver;
+
+    private final String locationPattern;
+
+    public EnvironmentCachePrewarmer(EnvironmentRepository environmentRepository,
+                                     ResourcePatternResolver resourcePatternResolver,
+                                     String locationPattern) {
+
+        this.environmentRepository = environmentRepository;
+        this.resourcePatternResolver = resourcePatternResolver;
+        this.locationPattern = locationPattern;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+
+        long start = System.nanoTime();
+        int warmed = 0;
+        for (Map.Entry<String, Set<String>> application : applications().entrySet()) {
+            for (String profile : application.getValue()) {
+                try {
+                    this.environmentRepository.findOne(application.getKey(), profile, null);
+                    warmed++;
+                } catch (RuntimeException ex) {
+                    // the first client request resolves it instead
+                    log.warn("Could not pre-warm {}/{}: {}", application.getKey(), profile, ex.getMessage());
+                }
+            }
+        }
+        log.info("Pre-warmed {} environments in {} ms", warmed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return profiles per application, {@code default} for each, in file name order
+     */
+    private Map<String, Set<String>> applications() throws IOException {
+
+        Set<String> names = new LinkedHashSet<>();
+        for (Resource resource : this.resourcePatternResolver.getResources(this.locationPattern)) {
+            String filename = resource.getFilename();
+            if (filename != null && filename.contains(".")) {
+                names.add(filename.substring(0, filename.lastIndexOf('.')));
+            }
+        }
+
+        Map<String, Set<String>> applications = new LinkedHashMap<>();
+        for (String name : names) {
+            int separator = name.indexOf('-');
+            String application = separator > 0 && names.contains(name.substring(0, separator))
+                    ? name.substring(0, separator)
+                    : name;
+            Set<String> profiles = applications.computeIfAbsent(application, key -> new LinkedHashSet<>());
+            profiles.add("default");
+            if (!application.equals(name)) {
+                profiles.add(name.substring(separator + 1));
+            }
+        }
+        return applications;
+    }
+
+}
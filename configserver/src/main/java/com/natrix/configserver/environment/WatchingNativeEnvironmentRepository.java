@@ -0,0 +1,323 @@
+package com.natrix.configserver.environment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Native backend that parses the configuration files of its directories once and then only the files a
+ * {@link WatchService} reports as changed. Resolving an environment picks the parsed files from an
+ * immutable snapshot, which is swapped in one step after every change, so a request never sees half of
+ * an update. The snapshot generation is the version, so {@link CachingEnvironmentRepository} can cache
+ * the resolved environments as it does for git.
+ * <p>
+ * Files are named {@code <application>[-<profile>].(yaml|yml|properties)}, {@code application} applying to
+ * every application. Documents of a multi-document YAML file are merged, later ones winning, and labels
+ * are ignored.
+ */
+public class WatchingNativeEnvironmentRepository implements EnvironmentRepository, SearchPathLocator, Ordered,
+        DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchingNativeEnvironmentRepository.class);
+
+    /**
+     * Name of the files that apply to every application, as with the stock native backend.
+     */
+    public static final String SHARED_APPLICATION = "application";
+
+    private static final Map<String, PropertySourceLoader> LOADERS = Map.of(
+            "yaml", new YamlPropertySourceLoader(),
+            "yml", new YamlPropertySourceLoader(),
+            "properties", new PropertiesPropertySourceLoader());
+
+    private final List<Path> directories;
+
+    private final Duration quietPeriod;
+
+    private final Consumer<Set<String>> changeListener;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private WatchService watchService;
+
+    private int order = Ordered.LOWEST_PRECEDENCE;
+
+    /**
+     * @param directories - Directories holding the configuration files, not searched recursively
+     * @param quietPeriod - Time without further file events before a change is applied, editors write in steps
+     * @param changeListener - Receives the applications whose properties changed, {@code application} for all
+     */
+    public WatchingNativeEnvironmentRepository(List<Path> directories, Duration quietPeriod,
+                                               Consumer<Set<String>> changeListener) {
+
+        this.directories = List.copyOf(directories);
+        this.quietPeriod = quietPeriod;
+        this.changeListener = changeListener;
+
+        Map<Path, ConfigFile> files = new HashMap<>();
+        for (Path directory : this.directories) {
+            for (Path path : list(directory)) {
+                ConfigFile file = parse(path);
+                if (file != null) {
+                    files.put(path, file);
+                }
+            }
+        }
+        this.snapshot.set(new Snapshot(1, files));
+        log.info("Loaded {} configuration files from {}", files.size(), this.directories);
+    }
+
+    /**
+     * Starts watching the directories on a daemon thread.
+     */
+    public void start() throws IOException {
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : this.directories) {
+            directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        Thread.ofPlatform().daemon().name("config-watcher").start(this::watch);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+
+        if (this.watchService != null) {
+            this.watchService.close();
+        }
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label) {
+
+        return findOne(application, profile, label, false);
+    }
+
+    @Override
+    public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+
+        Snapshot current = this.snapshot.get();
+        String[] profiles = StringUtils.commaDelimitedListToStringArray(profile);
+        String[] applications = StringUtils.commaDelimitedListToStringArray(application);
+
+        Environment environment = new Environment(application, profiles, label, String.valueOf(current.generation()),
+                null);
+        // most specific first: later profiles before earlier ones, each application before the shared files
+        for (int i = profiles.length - 1; i >= 0; i--) {
+            addPropertySources(environment, current, applications, "-" + profiles[i]);
+        }
+        addPropertySources(environment, current, applications, "");
+        return environment;
+    }
+
+    @Override
+    public Locations getLocations(String application, String profile, String label) {
+
+        String[] locations = this.directories.stream()
+                .map(directory -> directory.toUri().toString())
+                .toArray(String[]::new);
+        return new Locations(application, profile, label, String.valueOf(this.snapshot.get().generation()), locations);
+    }
+
+    @Override
+    public int getOrder() {
+
+        return this.order;
+    }
+
+    public void setOrder(int order) {
+
+        this.order = order;
+    }
+
+    private static void addPropertySources(Environment environment, Snapshot snapshot, String[] applications,
+                                           String suffix) {
+
+        List<String> names = new ArrayList<>();
+        for (int i = applications.length - 1; i >= 0; i--) {
+            names.add(applications[i] + suffix);
+        }
+        names.add(SHARED_APPLICATION + suffix);
+
+        for (String name : new LinkedHashSet<>(names)) {
+            for (ConfigFile file : snapshot.files().values()) {
+                if (file.name().equals(name)) {
+                    environment.add(new PropertySource(file.location(), file.properties()));
+                }
+            }
+        }
+    }
+
+    private void watch() {
+
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                WatchKey key = this.watchService.take();
+                // collect until the directories have been quiet for a while
+                while (key != null) {
+                    Path directory = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changed.addAll(list(directory));
+                            changed.addAll(this.snapshot.get().files().keySet());
+                        } else {
+                            changed.add(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    key.reset();
+                    key = this.watchService.poll(this.quietPeriod.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                apply(changed);
+            }
+        } catch (ClosedWatchServiceException ex) {
+            // shutting down
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Re-parses the changed files and swaps in a snapshot holding them, unless none of them parses to
+     * different properties, such as after an edit of comments only or a touch.
+     */
+    private void apply(Set<Path> changed) {
+
+        Snapshot current = this.snapshot.get();
+        Map<Path, ConfigFile> files = new HashMap<>(current.files());
+        Set<String> applications = new LinkedHashSet<>();
+        for (Path path : changed) {
+            ConfigFile before = files.get(path);
+            ConfigFile after;
+            try {
+                after = Files.isRegularFile(path) ? parse(path) : null;
+            } catch (RuntimeException ex) {
+                // keep serving the last good version until the file is fixed
+                log.warn("Could not parse {}, keeping the previous version: {}", path, ex.getMessage());
+                continue;
+            }
+            if (after == null) {
+                files.remove(path);
+            } else {
+                files.put(path, after);
+            }
+            if (before == null ? after != null : !before.equals(after)) {
+                applications.add((before != null ? before : after).application());
+            }
+        }
+        if (applications.isEmpty()) {
+            return;
+        }
+
+        this.snapshot.set(new Snapshot(current.generation() + 1, files));
+        log.info("Reloaded configuration of {}", applications);
+        try {
+            this.changeListener.accept(applications.contains(SHARED_APPLICATION)
+                    ? Set.of(SHARED_APPLICATION)
+                    : applications);
+        } catch (RuntimeException ex) {
+            log.warn("Could not announce the changed configuration of {}: {}", applications, ex.getMessage());
+        }
+    }
+
+    /**
+     * @return the parsed file, or null if its extension is not a configuration format
+     */
+    private static ConfigFile parse(Path path) {
+
+        String filename = path.getFileName().toString();
+        PropertySourceLoader loader = LOADERS.get(StringUtils.getFilenameExtension(filename));
+        if (loader == null) {
+            return null;
+        }
+
+        String name = StringUtils.stripFilenameExtension(filename);
+        Map<String, Object> properties = new LinkedHashMap<>();
+        try {
+            for (org.springframework.core.env.PropertySource<?> document :
+                    loader.load(name, new FileSystemResource(path))) {
+                if (document instanceof EnumerablePropertySource<?> enumerable) {
+                    for (String propertyName : enumerable.getPropertyNames()) {
+                        Object value = enumerable.getProperty(propertyName);
+                        if (value instanceof OriginTrackedValue tracked) {
+                            value = tracked.getValue();
+                        }
+                        if (value != null) {
+                            properties.put(propertyName, value);
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new ConfigFile(name, "file:" + path, Collections.unmodifiableMap(properties));
+    }
+
+    private static List<Path> list(Path directory) {
+
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            stream.forEach(paths::add);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    /**
+     * @param name - File name without extension, {@code <application>[-<profile>]}
+     * @param location - Name of the property source in the resolved environment
+     * @param properties - Flattened properties of all documents
+     */
+    private record ConfigFile(String name, String location, Map<String, Object> properties) {
+
+        String application() {
+
+            int separator = this.name.indexOf('-');
+            return separator > 0 ? this.name.substring(0, separator) : this.name;
+        }
+    }
+
+    private record Snapshot(long generation, Map<Path, ConfigFile> files) {
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.natrix.configserver.bus;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.bus.BusBridge;
+import org.springframework.cloud.bus.event.Destination;
+import org.springframework.cloud.bus.event.EnvironmentChangeRemoteApplicationEvent;
+import org.springframework.cloud.bus.event.PathDestinationFactory;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CoalescingBusBridgeTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    private final Destination.Factory destinationFactory = new PathDestinationFactory();
+
+    private final BusBridge delegate = mock(BusBridge.class);
+
+    private final CoalescingBusBridge bridge = new CoalescingBusBridge(this.delegate, this.destinationFactory, WINDOW);
+
+    @AfterEach
+    void shutDown() {
+
+        this.bridge.destroy();
+    }
+
+    @Test
+    void refreshEventsOfOneWindowAreSentOncePerDestination() {
+
+        this.bridge.send(refresh("card:**"));
+        this.bridge.send(refresh("loan:**"));
+        this.bridge.send(refresh("card:**"));
+
+        ArgumentCaptor<RemoteApplicationEvent> sent = ArgumentCaptor.forClass(RemoteApplicationEvent.class);
+        verify(this.delegate, after(WINDOW.toMillis() * 3).times(2)).send(any());
+        verify(this.delegate, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues())
+                .allMatch(RefreshRemoteApplicationEvent.class::isInstance)
+                .extracting(RemoteApplicationEvent::getDestinationService)
+                .containsExactly("card:**", "loan:**");
+    }
+
+    @Test
+    void refreshOfAllApplicationsCollapsesTheWindowIntoOneEvent() {
+
+        this.bridge.send(refresh("card:**"));
+        this.bridge.send(refresh("**"));
+        this.bridge.send(refresh("loan:**"));
+
+        ArgumentCaptor<RemoteApplicationEvent> sent = ArgumentCaptor.forClass(RemoteApplicationEvent.class);
+        verify(this.delegate, after(WINDOW.toMillis() * 3).times(1)).send(any());
+        verify(this.delegate).send(sent.capture());
+        assertThat(sent.getValue().getDestinationService()).isEqualTo("**");
+    }
+
+    @Test
+    void otherEventsAreNotHeldBack() {
+
+        RemoteApplicationEvent environmentChange = new EnvironmentChangeRemoteApplicationEvent(this, "configserver",
+                this.destinationFactory.getDestination("card:**"), Map.of("account.message", "changed"));
+
+        this.bridge.send(environmentChange);
+
+        verify(this.delegate, timeout(WINDOW.toMillis() / 2)).send(environmentChange);
+    }
+
+    private RefreshRemoteApplicationEvent refresh(String destination) {
+
+        return new RefreshRemoteApplicationEvent(this, "configserver", this.destinationFactory.getDestination(destination));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.natrix.configserver.environment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.config.environment.Environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchingNativeEnvironmentRepositoryTests {
+
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(100);
+
+    // well past the quiet period, for asserting that nothing is announced
+    private static final long SILENCE_MILLIS = 1000;
+
+    @TempDir
+    private Path directory;
+
+    private final BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+
+    private WatchingNativeEnvironmentRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        Files.writeString(this.directory.resolve("card.yaml"), "card:\n  message: before\n");
+        Files.writeString(this.directory.resolve("loan.yaml"), "loan:\n  message: before\n");
+        Files.writeString(this.directory.resolve("application-dev.yaml"), "shared:\n  message: before\n");
+        this.repository = new WatchingNativeEnvironmentRepository(List.of(this.directory), QUIET_PERIOD,
+                this.changes::add);
+        this.repository.start();
+    }
+
+    @AfterEach
+    void shutDown() throws IOException {
+
+        this.repository.destroy();
+    }
+
+    @Test
+    void changedFileBumpsTheGenerationAndAnnouncesItsApplication() throws Exception {
+
+        Files.writeString(this.directory.resolve("card.yaml"), "card:\n  message: after\n");
+
+        assertThat(this.changes.poll(5, TimeUnit.SECONDS)).containsExactly("card");
+        Environment card = this.repository.findOne("card", "default", null);
+        assertThat(card.getVersion()).isEqualTo("2");
+        assertThat(property(card, "card.message")).isEqualTo("after");
+        assertThat(this.changes.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void editOfCommentsOnlyAnnouncesNothing() throws Exception {
+
+        Files.writeString(this.directory.resolve("loan.yaml"), "# reviewed\nloan:\n  message: before # unchanged\n");
+
+        assertThat(this.changes.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(this.repository.findOne("loan", "default", null).getVersion()).isEqualTo("1");
+    }
+
+    @Test
+    void fileThatDoesNotParseKeepsThePreviousVersion() throws Exception {
+
+        Files.writeString(this.directory.resolve("card.yaml"), "card:\n  message: [after\n");
+
+        assertThat(this.changes.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS)).isNull();
+        Environment card = this.repository.findOne("card", "default", null);
+        assertThat(card.getVersion()).isEqualTo("1");
+        assertThat(property(card, "card.message")).isEqualTo("before");
+
+        Files.writeString(this.directory.resolve("card.yaml"), "card:\n  message: after\n");
+
+        assertThat(this.changes.poll(5, TimeUnit.SECONDS)).containsExactly("card");
+        assertThat(property(this.repository.findOne("card", "default", null), "card.message")).isEqualTo("after");
+    }
+
+    @Test
+    void changeOfSharedFileAnnouncesEveryApplication() throws Exception {
+
+        Files.writeString(this.directory.resolve("application-dev.yaml"), "shared:\n  message: after\n");
+
+        assertThat(this.changes.poll(5, TimeUnit.SECONDS))
+                .containsExactly(WatchingNativeEnvironmentRepository.SHARED_APPLICATION);
+        assertThat(property(this.repository.findOne("loan", "dev", null), "shared.message")).isEqualTo("after");
+    }
+
+    private static Object property(Environment environment, String name) {
+
+        return environment.getPropertySources().stream()
+                .filter(propertySource -> propertySource.getSource().containsKey(name))
+                .map(propertySource -> propertySource.getSource().get(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+}
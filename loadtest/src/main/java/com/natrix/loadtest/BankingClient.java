@@ -0,0 +1,157 @@
+package com.natrix.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues the controller calls of the request mix and keeps track of the mobile numbers each service
+ * has data for, so that fetch, update and delete mostly hit existing rows.
+ */
+public final class BankingClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final Map<Service, String> baseUrls = new EnumMap<>(Service.class);
+    private final Map<Service, MobileNumbers> existing = new EnumMap<>(Service.class);
+    private final AtomicLong nextMobileNumber = new AtomicLong();
+
+    public BankingClient(HttpClient httpClient, Map<Service, Integer> ports) {
+        this.httpClient = httpClient;
+        for (Service service : Service.values()) {
+            this.baseUrls.put(service, "http://localhost:" + ports.get(service) + service.basePath());
+            this.existing.put(service, new MobileNumbers());
+        }
+    }
+
+    /**
+     * @return the HTTP status of the call, for an update the status of the PUT unless the read before failed
+     */
+    public int call(Endpoint endpoint) throws IOException, InterruptedException {
+
+        Service service = endpoint.service();
+        if (endpoint.operation() == Operation.CREATE) {
+            return create(service);
+        }
+        String mobileNumber = endpoint.operation() == Operation.DELETE
+                ? this.existing.get(service).take()
+                : this.existing.get(service).pick();
+        if (mobileNumber == null) {
+            // everything got deleted, keep the arrival rate by creating instead
+            return create(service);
+        }
+        return switch (endpoint.operation()) {
+            case FETCH -> send(get(service, mobileNumber)).statusCode();
+            case UPDATE -> update(service, mobileNumber);
+            case DELETE -> send(request(service, "/delete?mobileNumber=" + mobileNumber).DELETE().build())
+                    .statusCode();
+            case CREATE -> throw new IllegalStateException();
+        };
+    }
+
+    private int create(Service service) throws IOException, InterruptedException {
+
+        String mobileNumber = String.format("09%09d", this.nextMobileNumber.incrementAndGet());
+        HttpRequest request = service == Service.ACCOUNTS
+                ? request(service, "/create")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(this.jsonMapper.writeValueAsString(Map.of(
+                                "name", "Load Test " + mobileNumber,
+                                "email", "loadtest" + mobileNumber + "@example.com",
+                                "mobileNumber", mobileNumber))))
+                        .build()
+                : request(service, "/create?mobileNumber=" + mobileNumber)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+        int status = send(request).statusCode();
+        if (status == 201) {
+            this.existing.get(service).add(mobileNumber);
+        }
+        return status;
+    }
+
+    /**
+     * Read-modify-write as a client does it, the fetched body carries the identifiers and version the update needs.
+     */
+    private int update(Service service, String mobileNumber) throws IOException, InterruptedException {
+
+        HttpResponse<String> fetched = this.httpClient.send(get(service, mobileNumber),
+                HttpResponse.BodyHandlers.ofString());
+        if (fetched.statusCode() != 200) {
+            return fetched.statusCode();
+        }
+        ObjectNode body = (ObjectNode) this.jsonMapper.readTree(fetched.body());
+        switch (service) {
+            case ACCOUNTS -> ((ObjectNode) body.get("accountsDto"))
+                    .put("branchAddress", "Branch " + ThreadLocalRandom.current().nextInt(1000));
+            case CARDS -> body
+                    .put("amountUsed", body.get("amountUsed").asInt() + 1)
+                    .put("availableAmount", body.get("availableAmount").asInt() - 1);
+            case LOANS -> body
+                    .put("amountPaid", body.get("amountPaid").asInt() + 1)
+                    .put("outstandingAmount", body.get("outstandingAmount").asInt() - 1);
+        }
+        return send(request(service, "/update")
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(this.jsonMapper.writeValueAsString(body)))
+                .build()).statusCode();
+    }
+
+    private HttpRequest get(Service service, String mobileNumber) {
+
+        return request(service, "/fetch?mobileNumber=" + mobileNumber).GET().build();
+    }
+
+    private HttpRequest.Builder request(Service service, String path) {
+
+        return HttpRequest.newBuilder(URI.create(this.baseUrls.get(service) + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+
+        return this.httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * Mobile numbers with data in one service, random access and removal in O(1).
+     */
+    private static final class MobileNumbers {
+
+        private final List<String> numbers = new ArrayList<>();
+
+        synchronized void add(String mobileNumber) {
+            this.numbers.add(mobileNumber);
+        }
+
+        synchronized String pick() {
+            return this.numbers.isEmpty()
+                    ? null
+                    : this.numbers.get(ThreadLocalRandom.current().nextInt(this.numbers.size()));
+        }
+
+        synchronized String take() {
+            if (this.numbers.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(this.numbers.size());
+            String last = this.numbers.removeLast();
+            return index == this.numbers.size() ? last : this.numbers.set(index, last);
+        }
+
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.natrix.loadtest;
+
+import java.util.Locale;
+
+/**
+ * One controller operation of one service, the unit latencies are reported for.
+ */
+public record Endpoint(Service service, Operation operation) {
+
+    /**
+     * @return e.g. {@code accounts.fetch}, as used for the {@code loadtest.mix.*} weights and the report
+     */
+    public String key() {
+        return this.service.key() + "." + this.operation.name().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.natrix.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies in microseconds and response statuses of one endpoint, safe to record from many threads.
+ */
+public final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * @param latencyNanos - from the time the request was scheduled, not sent, so a stalled service
+     *                     cannot hide queueing delay from the percentiles
+     * @param status       - HTTP status, or -1 when no response arrived
+     */
+    public void record(long latencyNanos, int status) {
+
+        this.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        this.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public Histogram latencies() {
+        return this.latencies;
+    }
+
+    public long errors() {
+        return this.statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    public Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        this.statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+}
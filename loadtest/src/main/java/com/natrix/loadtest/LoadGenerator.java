@@ -0,0 +1,93 @@
+package com.natrix.loadtest;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open model load: requests are started at a fixed arrival rate on virtual threads, independent of how
+ * fast earlier ones complete, and the endpoint of each is drawn from the weighted mix.
+ */
+public final class LoadGenerator {
+
+    private final BankingClient client;
+    private final LoadTestProperties properties;
+    private final List<Endpoint> endpoints;
+    private final int[] cumulativeWeights;
+    private final Map<Endpoint, EndpointStats> stats = new LinkedHashMap<>();
+
+    public LoadGenerator(BankingClient client, LoadTestProperties properties) {
+        this.client = client;
+        this.properties = properties;
+        this.endpoints = List.copyOf(properties.mix().keySet());
+        this.cumulativeWeights = new int[this.endpoints.size()];
+        int total = 0;
+        for (int i = 0; i < this.endpoints.size(); i++) {
+            total += properties.mix().get(this.endpoints.get(i));
+            this.cumulativeWeights[i] = total;
+            this.stats.put(this.endpoints.get(i), new EndpointStats());
+        }
+    }
+
+    /**
+     * Runs the warmup and the measured duration, returning once every started request has completed.
+     *
+     * @return statistics of the requests scheduled after the warmup
+     */
+    public Map<Endpoint, EndpointStats> run() {
+
+        long start = System.nanoTime();
+        long measureFrom = start + this.properties.warmup().toNanos();
+        long end = measureFrom + this.properties.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * 1_000_000_000L / this.properties.rate();
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = nextEndpoint();
+                EndpointStats endpointStats = intended >= measureFrom ? this.stats.get(endpoint) : null;
+                executor.execute(() -> call(endpoint, intended, endpointStats));
+            }
+        }
+        return this.stats;
+    }
+
+    private void call(Endpoint endpoint, long intended, EndpointStats endpointStats) {
+
+        int status;
+        try {
+            status = this.client.call(endpoint);
+        } catch (IOException ex) {
+            status = -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (endpointStats != null) {
+            endpointStats.record(System.nanoTime() - intended, status);
+        }
+    }
+
+    private Endpoint nextEndpoint() {
+
+        int draw = ThreadLocalRandom.current().nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (draw < this.cumulativeWeights[i]) {
+                return this.endpoints.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+}
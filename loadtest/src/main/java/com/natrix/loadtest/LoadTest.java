@@ -0,0 +1,119 @@
+package com.natrix.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts accounts, card and loan on in-memory databases, seeds them, replays the configured request mix
+ * at a fixed arrival rate and reports latency percentiles and throughput per endpoint.
+ * See {@code loadtest.properties} for the settings.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestProperties properties = LoadTestProperties.load(args);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        List<ServiceProcess> processes = new ArrayList<>();
+        try {
+            for (Service service : Service.values()) {
+                processes.add(ServiceProcess.start(service, properties));
+            }
+            for (Service service : Service.values()) {
+                processes.get(service.ordinal())
+                        .awaitReady(httpClient, properties.ports().get(service), properties.startupTimeout());
+            }
+
+            BankingClient client = new BankingClient(httpClient, properties.ports());
+            seed(client, properties.seed());
+
+            System.out.printf("Running %d req/s for %s after %s warmup%n",
+                    properties.rate(), properties.duration(), properties.warmup());
+            Map<Endpoint, EndpointStats> stats = new LoadGenerator(client, properties).run();
+            report(stats, properties, System.out);
+        } finally {
+            for (ServiceProcess process : processes) {
+                process.close();
+            }
+        }
+    }
+
+    private static void seed(BankingClient client, int count) {
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (Service service : Service.values()) {
+                Endpoint create = new Endpoint(service, Operation.CREATE);
+                for (int i = 0; i < count; i++) {
+                    executor.execute(() -> {
+                        try {
+                            client.call(create);
+                        } catch (IOException ex) {
+                            throw new IllegalStateException("Seeding " + create.key() + " failed", ex);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Prints the summary and writes the full percentile distribution of every endpoint as {@code <endpoint>.hgrm},
+     * which plots with the HdrHistogram plotter.
+     */
+    private static void report(Map<Endpoint, EndpointStats> stats, LoadTestProperties properties, PrintStream out)
+            throws IOException {
+
+        double seconds = properties.duration().toMillis() / 1000.0;
+        Histogram total = new Histogram(3);
+
+        out.printf("%n%-16s %8s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Histogram latencies = entry.getValue().latencies();
+            total.add(latencies);
+            out.printf("%-16s %8d %8d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    entry.getKey().key(), latencies.getTotalCount(), entry.getValue().errors(),
+                    latencies.getTotalCount() / seconds,
+                    millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()), entry.getValue().statuses());
+
+            Path distribution = properties.reportDir().resolve(entry.getKey().key() + ".hgrm");
+            try (PrintStream file = new PrintStream(Files.newOutputStream(distribution))) {
+                latencies.outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        out.printf("%-16s %8d %8s %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                "total", total.getTotalCount(), "", total.getTotalCount() / seconds,
+                millis(total.getValueAtPercentile(50)), millis(total.getValueAtPercentile(90)),
+                millis(total.getValueAtPercentile(99)), millis(total.getValueAtPercentile(99.9)),
+                millis(total.getMaxValue()));
+        out.printf("%nTarget %d req/s, latencies in %s, service logs in %s%n",
+                properties.rate(), properties.reportDir().resolve("*.hgrm"), properties.reportDir());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+}
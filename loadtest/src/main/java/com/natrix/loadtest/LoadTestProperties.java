@@ -0,0 +1,105 @@
+package com.natrix.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Settings of a run: {@code loadtest.properties} from the classpath, overridden by {@code loadtest.*}
+ * system properties, overridden by {@code key=value} program arguments.
+ */
+public record LoadTestProperties(int rate,
+                                 Duration duration,
+                                 Duration warmup,
+                                 int seed,
+                                 Map<Endpoint, Integer> mix,
+                                 Map<Service, Integer> ports,
+                                 Duration startupTimeout,
+                                 List<String> serviceJvmArgs,
+                                 Path servicesDir,
+                                 Path reportDir) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestProperties load(String[] args) throws IOException {
+
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestProperties.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                properties.setProperty(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+        }
+
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        Map<Service, Integer> ports = new EnumMap<>(Service.class);
+        for (Service service : Service.values()) {
+            ports.put(service, Integer.parseInt(required(properties, service.key() + ".port")));
+            for (Operation operation : Operation.values()) {
+                Endpoint endpoint = new Endpoint(service, operation);
+                int weight = Integer.parseInt(properties.getProperty(PREFIX + "mix." + endpoint.key(), "0"));
+                if (weight > 0) {
+                    mix.put(endpoint, weight);
+                }
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("All loadtest.mix.* weights are 0, nothing to run");
+        }
+
+        String jvmArgs = properties.getProperty(PREFIX + "service-jvm-args", "").trim();
+        return new LoadTestProperties(
+                Integer.parseInt(required(properties, "rate")),
+                duration(required(properties, "duration")),
+                duration(required(properties, "warmup")),
+                Integer.parseInt(required(properties, "seed")),
+                mix,
+                ports,
+                duration(required(properties, "startup-timeout")),
+                jvmArgs.isEmpty() ? List.of() : List.of(jvmArgs.split("\\s+")),
+                Path.of(required(properties, "services-dir")),
+                Path.of(required(properties, "report-dir")));
+    }
+
+    private static String required(Properties properties, String key) {
+
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + PREFIX + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * @param value - e.g. {@code 500ms}, {@code 60s} or {@code 2m}
+     */
+    private static Duration duration(String value) {
+
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration '" + value + "', use ms, s or m");
+        };
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.natrix.loadtest;
+
+public enum Operation {
+
+    CREATE, FETCH, UPDATE, DELETE
+
+}
@@ -0,0 +1,34 @@
+package com.natrix.loadtest;
+
+/**
+ * The services under test, with the jar copied into {@code loadtest.services-dir} and the API base path.
+ */
+public enum Service {
+
+    ACCOUNTS("accounts", "account.jar", "/api/accounts"),
+    CARDS("cards", "card.jar", "/api/cards"),
+    LOANS("loans", "loan.jar", "/api/loans");
+
+    private final String key;
+    private final String jar;
+    private final String basePath;
+
+    Service(String key, String jar, String basePath) {
+        this.key = key;
+        this.jar = jar;
+        this.basePath = basePath;
+    }
+
+    public String key() {
+        return this.key;
+    }
+
+    public String jar() {
+        return this.jar;
+    }
+
+    public String basePath() {
+        return this.basePath;
+    }
+
+}
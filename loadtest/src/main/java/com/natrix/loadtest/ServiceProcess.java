@@ -0,0 +1,112 @@
+package com.natrix.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service started from its runnable jar in a child JVM. It runs on an in-memory H2 database in
+ * MySQL mode inside that JVM, migrated by the service's own Flyway scripts, and without config
+ * server and bus so that no network besides localhost is needed.
+ */
+public final class ServiceProcess implements AutoCloseable {
+
+    private final Service service;
+    private final Process process;
+    private final Path log;
+
+    private ServiceProcess(Service service, Process process, Path log) {
+        this.service = service;
+        this.process = process;
+        this.log = log;
+    }
+
+    public static ServiceProcess start(Service service, LoadTestProperties properties) throws IOException {
+
+        Path jar = properties.servicesDir().resolve(service.jar());
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found, run `mvn install` in accounts, card and loan "
+                    + "and `mvn package` here first");
+        }
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(properties.serviceJvmArgs());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + properties.ports().get(service));
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--spring.cloud.bus.enabled=false");
+        command.add("--management.health.rabbit.enabled=false");
+        command.add("--spring.rabbitmq.listener.simple.auto-startup=false");
+        // normally served by the config server
+        command.add("--build.version=loadtest");
+        command.add("--spring.datasource.url=jdbc:h2:mem:" + service.key().toLowerCase(Locale.ROOT)
+                + "db;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        // the migrations and the table backed id generators are written for MySQL, H2 runs them in MySQL mode
+        command.add("--spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect");
+        command.add("--spring.jpa.show-sql=false");
+        if (service == Service.ACCOUNTS) {
+            // events stay in the outbox table
+            command.add("--outbox.relay.enabled=false");
+            command.add("--accounts.clients.cards.url=http://localhost:" + properties.ports().get(Service.CARDS));
+            command.add("--accounts.clients.loans.url=http://localhost:" + properties.ports().get(Service.LOANS));
+        }
+
+        Files.createDirectories(properties.reportDir());
+        Path log = properties.reportDir().resolve(service.key() + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(service, process, log);
+    }
+
+    /**
+     * Blocks until the actuator health endpoint answers 200.
+     */
+    public void awaitReady(HttpClient httpClient, int port, Duration timeout) throws InterruptedException {
+
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!this.process.isAlive()) {
+                throw new IllegalStateException(this.service.key() + " exited with " + this.process.exitValue()
+                        + ", see " + this.log);
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // not listening yet
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException(this.service.key() + " not ready within " + timeout + ", see " + this.log);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+
+        this.process.destroy();
+        if (!this.process.waitFor(30, TimeUnit.SECONDS)) {
+            this.process.destroyForcibly();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.natrix.loan.config;
+
+import com.natrix.loan.constants.LoansConstants;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccountEventsConfig {
+
+    /**
+     * Durable queue of deleted customers, bound to the accounts exchange. The exchange is declared here
+     * too, so the services can start in any order.
+     */
+    @Bean
+    public Declarables customerDeletedDeclarables() {
+
+        TopicExchange exchange = new TopicExchange(LoansConstants.ACCOUNT_EVENTS_EXCHANGE);
+        Queue queue = QueueBuilder.durable(LoansConstants.CUSTOMER_DELETED_QUEUE).build();
+        return new Declarables(exchange, queue,
+                BindingBuilder.bind(queue).to(exchange).with(LoansConstants.CUSTOMER_DELETED));
+    }
+
+}
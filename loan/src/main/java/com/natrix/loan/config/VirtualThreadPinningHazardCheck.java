@@ -0,0 +1,47 @@
+package com.natrix.loan.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.sql.Driver;
+
+/**
+ * Refuses to start on virtual threads when a known pinning hazard is on the classpath.
+ * Before JDK 24 a virtual thread blocking inside {@code synchronized} pins its carrier, and
+ * MySQL Connector/J guarded its I/O with {@code synchronized} until 9.0.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningHazardCheck implements InitializingBean {
+
+    private static final String MYSQL_DRIVER = "com.mysql.cj.jdbc.Driver";
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+
+        if (Runtime.version().feature() >= 24) {
+            return;
+        }
+
+        Driver driver;
+        try {
+            driver = (Driver) Class.forName(MYSQL_DRIVER).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException ex) {
+            return;
+        }
+
+        if (driver.getMajorVersion() < 9) {
+            throw new IllegalStateException(String.format(
+                    "Virtual threads are enabled but MySQL Connector/J %d.%d pins carrier threads on JDK %d. "
+                            + "Upgrade the driver to 9.0+ or the JDK to 24+, or disable spring.threads.virtual.enabled",
+                    driver.getMajorVersion(), driver.getMinorVersion(), Runtime.version().feature()));
+        }
+        log.info("Virtual threads enabled, MySQL Connector/J {}.{} has no known pinning hazard",
+                driver.getMajorVersion(), driver.getMinorVersion());
+    }
+
+}
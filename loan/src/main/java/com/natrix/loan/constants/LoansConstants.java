@@ -12,6 +12,34 @@ public final class LoansConstants {
 
     public static final Integer NEW_LOAN_LIMIT = 1_00_000;
 
+    // one loan per mobile number, see V2__lookup_indexes.sql
+    public static final String MOBILE_NUMBER_CONSTRAINT = "uk_loans_mobile_number";
+
+    // GET /api/loans page sizes, request parameter defaults have to be strings
+    public static final String DEFAULT_PAGE_SIZE = "50";
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public static final int EXPORT_FETCH_SIZE = 500;
+
+    public static final String ACCOUNT_EVENTS_EXCHANGE = "accounts.events";
+
+    public static final String CUSTOMER_DELETED = "customer.deleted";
+
+    public static final String CUSTOMER_DELETED_QUEUE = "loan.customer-deleted";
+
+    public static final int REPAYMENT_BATCH_SIZE = 500;
+
+    public static final String REPAYMENT_APPLIED = "APPLIED";
+
+    public static final String REPAYMENT_NOT_FOUND = "NOT_FOUND";
+
+    public static final String REPAYMENT_OVERPAYMENT = "OVERPAYMENT";
+
+    public static final String REPAYMENT_INVALID = "INVALID";
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
     public static final String CREATED = "CREATED";
 
     public static final String SUCCESS = "SUCCESS";
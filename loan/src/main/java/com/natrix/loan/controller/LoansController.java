@@ -4,8 +4,13 @@ import com.natrix.loan.constants.LoansConstants;
 import com.natrix.loan.dto.ErrorResponseDto;
 import com.natrix.loan.dto.LoansContactInfoDto;
 import com.natrix.loan.dto.LoansDto;
+import com.natrix.loan.dto.LoansFilterDto;
+import com.natrix.loan.dto.LoansPageDto;
+import com.natrix.loan.dto.RepaymentResultDto;
 import com.natrix.loan.dto.ResponseDto;
+import com.natrix.loan.service.ILoansListingService;
 import com.natrix.loan.service.ILoansService;
+import com.natrix.loan.service.IRepaymentsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,15 +18,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import org.springframework.beans.factory.annotation.Value;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.core.env.Environment;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 @Tag(
@@ -35,6 +56,12 @@ public class LoansController {
 
     private final ILoansService loanService;
 
+    private final ILoansListingService loansListingService;
+
+    private final IRepaymentsService repaymentsService;
+
+    private final JsonMapper jsonMapper;
+
     @Value("${build.version}")
     private String buildVersion;
 
@@ -43,10 +70,16 @@ public class LoansController {
     private final LoansContactInfoDto loansContactInfoDto;
 
     public LoansController(ILoansService loanService,
+                           ILoansListingService loansListingService,
+                           IRepaymentsService repaymentsService,
+                           JsonMapper jsonMapper,
                            Environment environment,
                            LoansContactInfoDto loansContactInfoDto) {
 
         this.loanService = loanService;
+        this.loansListingService = loansListingService;
+        this.repaymentsService = repaymentsService;
+        this.jsonMapper = jsonMapper;
         this.environment = environment;
         this.loansContactInfoDto = loansContactInfoDto;
     }
@@ -54,6 +87,11 @@ public class LoansController {
     private static final String MOBILE_REGEX =
             "(^$|^(09\\d{7,9}|\\+959\\d{7,9})$)";
 
+    private static final String LOAN_NUMBER_REGEX = "(^$|[0-9]{12})";
+
+    private static final String CSV_HEADER =
+            "mobileNumber,loanNumber,loanType,totalLoan,amountPaid,outstandingAmount\n";
+
         /* ===================== CREATE ===================== */
 
     @Operation(summary = "Create Loan", description = "Create a new loan using mobile number")
@@ -95,6 +133,65 @@ public class LoansController {
         return ResponseEntity.ok(loansDto);
     }
 
+    /* ===================== LIST ===================== */
+
+    @Operation(summary = "List Loans",
+            description = "Page through all loans in creation order, pass nextCursor of a page as after to get the next one")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of loans fetched successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping
+    public ResponseEntity<LoansPageDto> listLoans(@ParameterObject LoansFilterDto filter,
+                                                  @RequestParam(required = false)
+                                                  Long after,
+                                                  @RequestParam(defaultValue = LoansConstants.DEFAULT_PAGE_SIZE)
+                                                  @Min(value = 1, message = "Size should be at least 1")
+                                                  @Max(value = LoansConstants.MAX_PAGE_SIZE, message = "Size should be at most 500")
+                                                  int size) {
+
+        return ResponseEntity.ok(loansListingService.listLoans(filter, after, size));
+    }
+
+    @Operation(summary = "Export Loans",
+            description = "Stream all matching loans as CSV or NDJSON, read through a database cursor instead of pages")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "One loan per line, in creation order"),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, LoansConstants.TEXT_CSV_VALUE})
+    public ResponseEntity<StreamingResponseBody> exportLoans(@ParameterObject LoansFilterDto filter,
+                                                             @RequestParam(defaultValue = "ndjson")
+                                                             @Pattern(regexp = "csv|ndjson", message = "Format must be csv or ndjson")
+                                                             String format) {
+
+        boolean csv = format.equals("csv");
+
+        StreamingResponseBody body = (OutputStream outputStream) -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write(CSV_HEADER);
+            }
+            loansListingService.exportLoans(filter, loan -> {
+                try {
+                    writer.write(csv ? toCsv(loan) : jsonMapper.writeValueAsString(loan));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType(LoansConstants.TEXT_CSV_VALUE) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("loans." + format).build().toString())
+                .body(body);
+    }
+
     /* ===================== UPDATE ===================== */
 
     @Operation(summary = "Update Loan Details", description = "Update loan details using loan number")
@@ -122,6 +219,60 @@ public class LoansController {
         );
     }
 
+    /* ===================== REPAY ===================== */
+
+    @Operation(summary = "Repay Loan", description = "Apply a repayment to a loan and return the new balances")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Repayment applied successfully"),
+            @ApiResponse(responseCode = "400", description = "Repayment exceeds the outstanding amount",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/repay")
+    public ResponseEntity<LoansDto> repayLoan(@RequestParam
+                                              @Pattern(regexp = LOAN_NUMBER_REGEX, message = "LoanNumber must be 12 digits")
+                                              String loanNumber,
+                                              @RequestParam
+                                              @Positive(message = "Amount should be greater than zero")
+                                              int amount) {
+
+        LoansDto loansDto = loanService.repay(loanNumber, amount);
+        return ResponseEntity.ok(loansDto);
+    }
+
+    @Operation(summary = "Stream Bulk Repayments",
+            description = "Apply a CSV (loanNumber,amount) or NDJSON file of repayments, results stream back as NDJSON while batches commit")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "One RepaymentResult per row, in file order",
+                    content = @Content(schema = @Schema(implementation = RepaymentResultDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping(value = "/repayments/stream",
+            consumes = {LoansConstants.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRepayments(InputStream inputStream,
+                                                                  @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+
+        boolean csv = contentType.isCompatibleWith(MediaType.parseMediaType(LoansConstants.TEXT_CSV_VALUE));
+
+        StreamingResponseBody body = (OutputStream outputStream) ->
+                repaymentsService.applyRepayments(inputStream, csv, result -> {
+                    try {
+                        outputStream.write(jsonMapper.writeValueAsString(result).getBytes(StandardCharsets.UTF_8));
+                        outputStream.write('\n');
+                        outputStream.flush();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /* ===================== DELETE ===================== */
 
     @Operation(summary = "Delete Loan Details", description = "Delete loan details by mobile number")
@@ -192,6 +343,23 @@ public class LoansController {
 
     /* ===================== COMMON RESPONSE BUILDERS ===================== */
 
+    private static String toCsv(LoansDto loan) {
+
+        return String.join(",", csvValue(loan.getMobileNumber()), csvValue(loan.getLoanNumber()),
+                csvValue(loan.getLoanType()), String.valueOf(loan.getTotalLoan()), String.valueOf(loan.getAmountPaid()),
+                String.valueOf(loan.getOutstandingAmount()));
+    }
+
+    private static String csvValue(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        return value.contains(",") || value.contains("\"") || value.contains("\n")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+
     private ResponseEntity<ResponseDto> buildSuccessResponse(
             String status,
             Integer statusCode,
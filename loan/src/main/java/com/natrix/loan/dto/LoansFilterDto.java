@@ -0,0 +1,32 @@
+package com.natrix.loan.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Schema(name = "LoansFilter",
+        description = "Optional filters of the loan listing and export, all given ones must match"
+)
+@Data
+public class LoansFilterDto {
+
+    @Schema(
+            description = "Type of the loan", example = "Home Loan"
+    )
+    private String loanType;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(
+            description = "Loans created on or after this day", example = "2025-01-01"
+    )
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    @Schema(
+            description = "Loans created on or before this day", example = "2025-12-31"
+    )
+    private LocalDate createdTo;
+
+}
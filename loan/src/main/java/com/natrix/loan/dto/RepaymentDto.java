@@ -0,0 +1,27 @@
+package com.natrix.loan.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "Repayment",
+        description = "Schema to hold one repayment row of a bulk repayment file"
+)
+public class RepaymentDto {
+
+    @Schema(
+            description = "Loan Number of the customer", example = "548732457654"
+    )
+    private String loanNumber;
+
+    @Schema(
+            description = "Amount paid", example = "1000"
+    )
+    private int amount;
+
+}
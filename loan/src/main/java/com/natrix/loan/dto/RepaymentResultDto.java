@@ -0,0 +1,40 @@
+package com.natrix.loan.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(
+        name = "RepaymentResult",
+        description = "Schema to hold the outcome of one repayment row"
+)
+public class RepaymentResultDto {
+
+    @Schema(
+            description = "Line of the row in the uploaded file", example = "42"
+    )
+    private long line;
+
+    @Schema(
+            description = "Loan Number of the row", example = "548732457654"
+    )
+    private String loanNumber;
+
+    @Schema(
+            description = "Amount of the row", example = "1000"
+    )
+    private int amount;
+
+    @Schema(
+            description = "APPLIED, NOT_FOUND, OVERPAYMENT or INVALID", example = "APPLIED"
+    )
+    private String status;
+
+    @Schema(
+            description = "Reason the row was not applied"
+    )
+    private String message;
+
+}
@@ -0,0 +1,13 @@
+package com.natrix.loan.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Customer lifecycle event published by the accounts service to {@code accounts.events}.
+ *
+ * @param customerId   - id of the customer in the accounts service
+ * @param mobileNumber - mobile number the loans are kept under
+ * @param occurredAt   - time of the change
+ */
+public record AccountEvent(Long customerId, String mobileNumber, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,87 @@
+package com.natrix.loan.event;
+
+import com.natrix.loan.audit.AuditEvent;
+import com.natrix.loan.audit.AuditTrail;
+import com.natrix.loan.constants.LoansConstants;
+import com.natrix.loan.entity.Loans;
+import com.natrix.loan.repository.LoansRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deletes the loans of customers deleted in the accounts service. Messages arrive in batches of up to
+ * {@code spring.rabbitmq.listener.simple.batch-size} and each batch is one bulk DELETE. The loans are
+ * locked and read first, the bulk DELETE is not seen by the audit listener, so their audit records
+ * are written from here. Events can be delivered more than once, deleting again is harmless.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class CustomerDeletedListener {
+
+    private final LoansRepository loansRepository;
+
+    private final AuditTrail auditTrail;
+
+    private final AuditorAware<String> auditorAware;
+
+    private final JsonMapper jsonMapper;
+
+    @RabbitListener(queues = LoansConstants.CUSTOMER_DELETED_QUEUE, batch = "true")
+    @Transactional
+    public void onCustomersDeleted(List<Message> messages) {
+
+        Set<String> mobileNumbers = new LinkedHashSet<>();
+        for (Message message : messages) {
+            try {
+                AccountEvent event = this.jsonMapper.readValue(message.getBody(), AccountEvent.class);
+                if (event.mobileNumber() != null) {
+                    mobileNumbers.add(event.mobileNumber());
+                }
+            } catch (JacksonException ex) {
+                // redelivering would not make it readable
+                log.warn("Skipping unreadable customer.deleted event {}", message.getMessageProperties().getMessageId(), ex);
+            }
+        }
+        if (mobileNumbers.isEmpty()) {
+            return;
+        }
+
+        List<Loans> loans = this.loansRepository.findByMobileNumberIn(mobileNumbers);
+        int deleted = this.loansRepository.deleteByMobileNumberIn(mobileNumbers);
+        String changedBy = this.auditorAware.getCurrentAuditor().orElse("UNKNOWN");
+        LocalDateTime changedAt = LocalDateTime.now();
+        this.auditTrail.recordAfterCommit(loans.stream()
+                .map(loan -> deleted(loan, changedBy, changedAt))
+                .toList());
+        log.info("Deleted {} loans of {} deleted customers", deleted, mobileNumbers.size());
+    }
+
+    private static AuditEvent deleted(Loans loans, String changedBy, LocalDateTime changedAt) {
+
+        Map<String, AuditEvent.Change> changes = new LinkedHashMap<>();
+        changes.put("mobileNumber", new AuditEvent.Change(loans.getMobileNumber(), null));
+        changes.put("loanNumber", new AuditEvent.Change(loans.getLoanNumber(), null));
+        changes.put("loanType", new AuditEvent.Change(loans.getLoanType(), null));
+        changes.put("totalLoan", new AuditEvent.Change(loans.getTotalLoan(), null));
+        changes.put("amountPaid", new AuditEvent.Change(loans.getAmountPaid(), null));
+        changes.put("outstandingAmount", new AuditEvent.Change(loans.getOutstandingAmount(), null));
+        return new AuditEvent(Loans.class.getSimpleName(), String.valueOf(loans.getLoanId()),
+                AuditEvent.Action.DELETE, changes, changedBy, changedAt);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.natrix.loan.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class LoanOverpaymentException extends RuntimeException {
+
+    public LoanOverpaymentException(String message) {
+
+        super(message);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.natrix.loan.refresh;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.bus.ConditionalOnBusEnabled;
+import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies bus refreshes in place of Spring Cloud Bus's {@code RefreshListener}, which refreshes right
+ * away for every event, so the whole fleet refreshes in lockstep once per event. This one waits
+ * for the coalesce window plus a random share of the jitter, and all events that arrive meanwhile are
+ * served by that one refresh. An event arriving while a refresh runs schedules the next one, as the
+ * running refresh may have read the configuration before the change.
+ */
+@Slf4j
+@Component
+@ConditionalOnBusEnabled
+@ConditionalOnProperty(name = "spring.cloud.bus.refresh.enabled", havingValue = "false")
+public class CoalescingRefreshListener implements ApplicationListener<RefreshRemoteApplicationEvent>, DisposableBean {
+
+    private final ContextRefresher contextRefresher;
+
+    private final ServiceMatcher serviceMatcher;
+
+    private final Duration window;
+
+    private final Duration maxJitter;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("bus-refresh").factory());
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private final Counter scheduledCounter;
+
+    private final Counter coalescedCounter;
+
+    public CoalescingRefreshListener(ContextRefresher contextRefresher, ServiceMatcher serviceMatcher,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${bus-refresh.coalesce.window:2s}") Duration window,
+                                     @Value("${bus-refresh.coalesce.max-jitter:10s}") Duration maxJitter) {
+
+        this.contextRefresher = contextRefresher;
+        this.serviceMatcher = serviceMatcher;
+        this.window = window;
+        this.maxJitter = maxJitter;
+        this.scheduledCounter = Counter.builder("bus.refresh.events").tag("result", "scheduled")
+                .description("Bus refresh events that scheduled a refresh").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("bus.refresh.events").tag("result", "coalesced")
+                .description("Bus refresh events served by an already scheduled refresh").register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshRemoteApplicationEvent event) {
+
+        if (!this.serviceMatcher.isForSelf(event)) {
+            return;
+        }
+        if (!this.pending.compareAndSet(false, true)) {
+            this.coalescedCounter.increment();
+            return;
+        }
+
+        long delay = this.window.toMillis() + ThreadLocalRandom.current().nextLong(this.maxJitter.toMillis() + 1);
+        this.scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+        this.scheduledCounter.increment();
+        log.info("Refreshing in {} ms for the bus event from {}", delay, event.getOriginService());
+    }
+
+    @Override
+    public void destroy() {
+
+        this.scheduler.shutdownNow();
+    }
+
+    private void refresh() {
+
+        this.pending.set(false);
+        try {
+            Set<String> keys = this.contextRefresher.refresh();
+            log.info("Refreshed keys: {}", keys);
+        } catch (RuntimeException ex) {
+            log.warn("Bus refresh failed: {}", ex.getMessage(), ex);
+        }
+    }
+
+}
@@ -1,8 +1,16 @@
 package com.natrix.loan.repository;
 
 import com.natrix.loan.entity.Loans;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +19,29 @@ public interface LoansRepository extends BaseRepository<Loans, Long> {
     Optional<Loans> findByMobileNumber(String mobileNumber);
 
     Optional<Loans> findByLoanNumber(String loanNumber);
+
+    boolean existsByLoanNumber(String loanNumber);
+
+    @Modifying
+    @Query("""
+            update Loans l
+            set l.amountPaid = l.amountPaid + :amount,
+                l.outstandingAmount = l.outstandingAmount - :amount,
+                l.updatedAt = :updatedAt,
+                l.updatedBy = :updatedBy
+            where l.loanNumber = :loanNumber and l.outstandingAmount >= :amount
+            """)
+    int repay(@Param("loanNumber") String loanNumber, @Param("amount") int amount,
+              @Param("updatedAt") LocalDateTime updatedAt, @Param("updatedBy") String updatedBy);
+
+    /**
+     * Locks the loans a bulk delete is about to remove, so their audit records name exactly the deleted rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Loans> findByMobileNumberIn(Collection<String> mobileNumbers);
+
+    @Modifying
+    @Query("delete from Loans l where l.mobileNumber in :mobileNumbers")
+    int deleteByMobileNumberIn(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
 }
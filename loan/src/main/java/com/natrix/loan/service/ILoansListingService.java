@@ -0,0 +1,15 @@
+package com.natrix.loan.service;
+
+import com.natrix.loan.dto.LoansDto;
+import com.natrix.loan.dto.LoansFilterDto;
+import com.natrix.loan.dto.LoansPageDto;
+
+import java.util.function.Consumer;
+
+public interface ILoansListingService {
+
+    LoansPageDto listLoans(LoansFilterDto filter, Long after, int size);
+
+    void exportLoans(LoansFilterDto filter, Consumer<LoansDto> loanConsumer);
+
+}
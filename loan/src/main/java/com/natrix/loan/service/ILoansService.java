@@ -12,4 +12,6 @@ public interface ILoansService {
 
     boolean deleteLoan(String mobileNumber);
 
+    LoansDto repay(String loanNumber, int amount);
+
 }
@@ -0,0 +1,13 @@
+package com.natrix.loan.service;
+
+import com.natrix.loan.dto.RepaymentResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface IRepaymentsService {
+
+    void applyRepayments(InputStream inputStream, boolean csv, Consumer<RepaymentResultDto> resultConsumer) throws IOException;
+
+}
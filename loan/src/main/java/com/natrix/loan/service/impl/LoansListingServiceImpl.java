@@ -0,0 +1,138 @@
+package com.natrix.loan.service.impl;
+
+import com.natrix.loan.constants.LoansConstants;
+import com.natrix.loan.dto.LoansDto;
+import com.natrix.loan.dto.LoansFilterDto;
+import com.natrix.loan.dto.LoansPageDto;
+import com.natrix.loan.service.ILoansListingService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+public class LoansListingServiceImpl implements ILoansListingService {
+
+    private static final String SELECT_SQL = """
+            SELECT loan_id, mobile_number, loan_number, loan_type, total_loan, amount_paid, outstanding_amount
+            FROM loans
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public LoansListingServiceImpl(JdbcTemplate jdbcTemplate) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.exportJdbcTemplate.setFetchSize(exportFetchSize(jdbcTemplate.getDataSource()));
+    }
+
+    /**
+     * Seeks past the last loan of the previous page on the primary key instead of skipping rows with
+     * OFFSET, so every page costs the same however deep it is. One row more than asked for tells
+     * whether another page follows.
+     *
+     * @param filter - Optional loan type and creation date range
+     * @param after - nextCursor of the previous page, null for the first page
+     * @param size - Loans per page
+     * @return the page and the cursor of the next one
+     */
+    @Override
+    public LoansPageDto listLoans(LoansFilterDto filter, Long after, int size) {
+
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SQL + where(filter, after, args) + " ORDER BY loan_id LIMIT ?";
+        args.add(size + 1);
+
+        List<Row> rows = this.jdbcTemplate.query(sql, (rs, rowNum) -> new Row(rs.getLong("loan_id"), mapRow(rs)),
+                args.toArray());
+
+        Long nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = rows.getLast().loanId();
+        }
+        return new LoansPageDto(rows.stream().map(Row::loan).toList(), nextCursor);
+    }
+
+    /**
+     * Reads all matching loans through one forward-only cursor and hands them to the consumer one at
+     * a time, so memory stays flat however many rows match.
+     *
+     * @param filter - Optional loan type and creation date range
+     * @param loanConsumer - receives every matching loan in creation order
+     */
+    @Override
+    public void exportLoans(LoansFilterDto filter, Consumer<LoansDto> loanConsumer) {
+
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_SQL + where(filter, null, args) + " ORDER BY loan_id";
+
+        this.exportJdbcTemplate.query(sql, rs -> {
+            loanConsumer.accept(mapRow(rs));
+        }, args.toArray());
+    }
+
+    private static String where(LoansFilterDto filter, Long after, List<Object> args) {
+
+        List<String> conditions = new ArrayList<>();
+        if (after != null) {
+            conditions.add("loan_id > ?");
+            args.add(after);
+        }
+        if (filter.getLoanType() != null && !filter.getLoanType().isBlank()) {
+            conditions.add("loan_type = ?");
+            args.add(filter.getLoanType());
+        }
+        if (filter.getCreatedFrom() != null) {
+            conditions.add("created_at >= ?");
+            args.add(Date.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            conditions.add("created_at <= ?");
+            args.add(Date.valueOf(filter.getCreatedTo()));
+        }
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static LoansDto mapRow(ResultSet rs) throws SQLException {
+
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber(rs.getString("mobile_number"));
+        loansDto.setLoanNumber(rs.getString("loan_number"));
+        loansDto.setLoanType(rs.getString("loan_type"));
+        loansDto.setTotalLoan(rs.getInt("total_loan"));
+        loansDto.setAmountPaid(rs.getInt("amount_paid"));
+        loansDto.setOutstandingAmount(rs.getInt("outstanding_amount"));
+        return loansDto;
+    }
+
+    /**
+     * MySQL Connector/J buffers the whole result unless the fetch size is {@link Integer#MIN_VALUE},
+     * which makes it stream row by row. Other drivers take the fetch size literally.
+     */
+    private static int exportFetchSize(DataSource dataSource) {
+
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equals(product) ? Integer.MIN_VALUE : LoansConstants.EXPORT_FETCH_SIZE;
+        } catch (MetaDataAccessException ex) {
+            return LoansConstants.EXPORT_FETCH_SIZE;
+        }
+    }
+
+    private record Row(long loanId, LoansDto loan) {
+    }
+
+}
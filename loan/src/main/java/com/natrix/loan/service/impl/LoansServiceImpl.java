@@ -1,17 +1,27 @@
 package com.natrix.loan.service.impl;
 
+import com.natrix.loan.audit.AuditAwareImpl;
+import com.natrix.loan.audit.AuditEvent;
+import com.natrix.loan.audit.AuditTrail;
 import com.natrix.loan.constants.LoansConstants;
 import com.natrix.loan.dto.LoansDto;
 import com.natrix.loan.entity.Loans;
 import com.natrix.loan.exception.LoanAlreadyExistsException;
+import com.natrix.loan.exception.LoanOverpaymentException;
 import com.natrix.loan.exception.ResourceNotFoundException;
 import com.natrix.loan.mapper.LoansMapper;
 import com.natrix.loan.repository.LoansRepository;
 import com.natrix.loan.service.ILoansService;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 @Service
@@ -20,17 +30,37 @@ public class LoansServiceImpl implements ILoansService {
 
     private final LoansRepository loansRepository;
 
+    private final AuditAwareImpl auditAwareImpl;
+
+    private final AuditTrail auditTrail;
+
     /**
+     * A single INSERT, the unique constraint on the mobile number rejects a second loan. Checking
+     * with a SELECT first would cost a round trip and still let concurrent creates through.
+     *
      * @param mobileNumber - Mobile Number of the Customer
      */
     @Override
     public void createLoan(String mobileNumber) {
 
-        Optional<Loans> optionalLoans = loansRepository.findByMobileNumber(mobileNumber);
-        if (optionalLoans.isPresent()) {
-            throw new LoanAlreadyExistsException("Loan already registered with given mobileNumber " + mobileNumber);
+        try {
+            loansRepository.save(createNewLoan(mobileNumber));
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateMobileNumber(ex)) {
+                throw new LoanAlreadyExistsException("Loan already registered with given mobileNumber " + mobileNumber);
+            }
+            throw ex;
         }
-        loansRepository.save(createNewLoan(mobileNumber));
+    }
+
+    /**
+     * @param ex - Violation reported by the INSERT
+     * @return true if the mobile number constraint was violated, the message names it on MySQL and H2 alike
+     */
+    private static boolean isDuplicateMobileNumber(DataIntegrityViolationException ex) {
+
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(LoansConstants.MOBILE_NUMBER_CONSTRAINT);
     }
 
     /**
@@ -93,4 +123,38 @@ public class LoansServiceImpl implements ILoansService {
         return true;
     }
 
+    /**
+     * Applies the payment with one conditional UPDATE that also rejects overpayment, so concurrent
+     * repayments of the same loan are neither lost nor able to push the outstanding amount below zero.
+     * The new balances are read back in the same transaction, for the response and for the audit
+     * record, which the bulk statement does not get otherwise.
+     *
+     * @param loanNumber - Loan Number to repay
+     * @param amount - Amount paid
+     * @return Loan Details after the repayment
+     */
+    @Transactional
+    @Override
+    public LoansDto repay(String loanNumber, int amount) {
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        String updatedBy = auditAwareImpl.getCurrentAuditor().orElse(null);
+        int updated = loansRepository.repay(loanNumber, amount, updatedAt, updatedBy);
+        if (updated == 0) {
+            if (!loansRepository.existsByLoanNumber(loanNumber)) {
+                throw new ResourceNotFoundException("Loan", "LoanNumber", loanNumber);
+            }
+            throw new LoanOverpaymentException("Repayment of " + amount + " exceeds the outstanding amount of loan " + loanNumber);
+        }
+
+        Loans loans = loansRepository.findByLoanNumber(loanNumber).orElseThrow(
+                () -> new ResourceNotFoundException("Loan", "LoanNumber", loanNumber));
+        auditTrail.recordAfterCommit(List.of(new AuditEvent(Loans.class.getSimpleName(),
+                String.valueOf(loans.getLoanId()), AuditEvent.Action.UPDATE, Map.of(
+                "amountPaid", new AuditEvent.Change(loans.getAmountPaid() - amount, loans.getAmountPaid()),
+                "outstandingAmount", new AuditEvent.Change(loans.getOutstandingAmount() + amount, loans.getOutstandingAmount())),
+                Objects.requireNonNullElse(updatedBy, "UNKNOWN"), updatedAt)));
+        return LoansMapper.mapToDto(loans, new LoansDto());
+    }
+
 }
@@ -0,0 +1,249 @@
+package com.natrix.loan.service.impl;
+
+import com.natrix.loan.audit.AuditAwareImpl;
+import com.natrix.loan.audit.AuditEvent;
+import com.natrix.loan.audit.AuditTrail;
+import com.natrix.loan.constants.LoansConstants;
+import com.natrix.loan.dto.RepaymentDto;
+import com.natrix.loan.dto.RepaymentResultDto;
+import com.natrix.loan.entity.Loans;
+import com.natrix.loan.service.IRepaymentsService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+public class RepaymentsServiceImpl implements IRepaymentsService {
+
+    private static final String REPAY_SQL = """
+            UPDATE loans
+            SET amount_paid = amount_paid + ?, outstanding_amount = outstanding_amount - ?, updated_at = ?, updated_by = ?
+            WHERE loan_number = ? AND outstanding_amount >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AuditAwareImpl auditAwareImpl;
+
+    private final AuditTrail auditTrail;
+
+    private final JsonMapper jsonMapper;
+
+    public RepaymentsServiceImpl(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 AuditAwareImpl auditAwareImpl,
+                                 AuditTrail auditTrail,
+                                 JsonMapper jsonMapper) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditAwareImpl = auditAwareImpl;
+        this.auditTrail = auditTrail;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Reads the body line by line, so only one batch of rows is held in memory at a time. Each batch
+     * is applied with a JDBC batch of conditional UPDATEs in its own transaction, and the results of
+     * its rows, invalid ones included, are handed to the consumer in line order once it has committed.
+     *
+     * @param inputStream - CSV or NDJSON body with one (loanNumber, amount) row per line
+     * @param csv - true for CSV, false for NDJSON
+     * @param resultConsumer - receives the outcome of every row in file order
+     */
+    @Override
+    public void applyRepayments(InputStream inputStream, boolean csv,
+                                Consumer<RepaymentResultDto> resultConsumer) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<Row> batch = new ArrayList<>(LoansConstants.REPAYMENT_BATCH_SIZE);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (csv && lineNumber == 1 && line.toLowerCase(Locale.ROOT).startsWith("loannumber"))) {
+                continue;
+            }
+            try {
+                RepaymentDto repayment = csv ? parseCsv(line) : this.jsonMapper.readValue(line, RepaymentDto.class);
+                batch.add(new Row(lineNumber, validate(repayment)));
+            } catch (JacksonException | IllegalArgumentException ex) {
+                // held with the batch, so its result is not handed out ahead of earlier valid rows
+                batch.add(new Row(lineNumber, null));
+            }
+            if (batch.size() == LoansConstants.REPAYMENT_BATCH_SIZE) {
+                applyBatch(batch, resultConsumer);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            applyBatch(batch, resultConsumer);
+        }
+    }
+
+    private void applyBatch(List<Row> batch, Consumer<RepaymentResultDto> resultConsumer) {
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        String updatedBy = this.auditAwareImpl.getCurrentAuditor().orElse(null);
+
+        List<Row> valid = batch.stream().filter(row -> row.repayment != null).toList();
+        List<Object[]> args = valid.stream()
+                .map(row -> new Object[]{row.repayment.getAmount(), row.repayment.getAmount(), updatedAt, updatedBy,
+                        row.repayment.getLoanNumber(), row.repayment.getAmount()})
+                .toList();
+
+        int[] updateCounts = args.isEmpty() ? new int[0] : this.transactionTemplate.execute(status -> {
+            int[] counts = this.jdbcTemplate.batchUpdate(REPAY_SQL, args);
+            this.auditTrail.recordAfterCommit(auditEvents(valid, counts,
+                    Objects.requireNonNullElse(updatedBy, "UNKNOWN"), now));
+            return counts;
+        });
+
+        Set<String> existingLoanNumbers = findExistingRejected(valid, updateCounts);
+        int next = 0;
+        for (Row row : batch) {
+            RepaymentDto repayment = row.repayment;
+            if (repayment == null) {
+                resultConsumer.accept(new RepaymentResultDto(row.line, null, 0, LoansConstants.REPAYMENT_INVALID,
+                        "Row is not a valid loanNumber and positive amount"));
+                continue;
+            }
+            String status;
+            String message = null;
+            if (updateCounts[next++] != 0) {
+                status = LoansConstants.REPAYMENT_APPLIED;
+            } else if (existingLoanNumbers.contains(repayment.getLoanNumber())) {
+                status = LoansConstants.REPAYMENT_OVERPAYMENT;
+                message = "Repayment exceeds the outstanding amount";
+            } else {
+                status = LoansConstants.REPAYMENT_NOT_FOUND;
+                message = "Loan not found";
+            }
+            resultConsumer.accept(new RepaymentResultDto(row.line, repayment.getLoanNumber(),
+                    repayment.getAmount(), status, message));
+        }
+    }
+
+    /**
+     * A row that updated nothing either names an unknown loan or overpays it, one IN query per batch
+     * tells the two apart.
+     */
+    private Set<String> findExistingRejected(List<Row> batch, int[] updateCounts) {
+
+        Set<String> rejected = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (updateCounts[i] == 0) {
+                rejected.add(batch.get(i).repayment.getLoanNumber());
+            }
+        }
+        if (rejected.isEmpty()) {
+            return rejected;
+        }
+        return new HashSet<>(this.namedParameterJdbcTemplate.queryForList(
+                "SELECT loan_number FROM loans WHERE loan_number IN (:loanNumbers)",
+                new MapSqlParameterSource("loanNumbers", rejected), String.class));
+    }
+
+    /**
+     * The JDBC batch is not seen by the audit listener. The balances of the repaid loans are read back
+     * in the batch's transaction and the rows are walked backwards from them, so a loan repaid by several
+     * rows of the batch gets one record per row with the balances before and after that row.
+     */
+    private List<AuditEvent> auditEvents(List<Row> batch, int[] updateCounts, String changedBy,
+                                         LocalDateTime changedAt) {
+
+        Set<String> repaid = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (updateCounts[i] != 0) {
+                repaid.add(batch.get(i).repayment.getLoanNumber());
+            }
+        }
+        if (repaid.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Balance> balances = new HashMap<>();
+        this.namedParameterJdbcTemplate.query(
+                "SELECT loan_id, loan_number, amount_paid, outstanding_amount FROM loans WHERE loan_number IN (:loanNumbers)",
+                new MapSqlParameterSource("loanNumbers", repaid),
+                rs -> {
+                    balances.put(rs.getString("loan_number"), new Balance(rs.getLong("loan_id"),
+                            rs.getInt("amount_paid"), rs.getInt("outstanding_amount")));
+                });
+
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (updateCounts[i] == 0) {
+                continue;
+            }
+            RepaymentDto repayment = batch.get(i).repayment;
+            Balance after = balances.get(repayment.getLoanNumber());
+            Balance before = new Balance(after.loanId, after.amountPaid - repayment.getAmount(),
+                    after.outstandingAmount + repayment.getAmount());
+            balances.put(repayment.getLoanNumber(), before);
+            events.add(new AuditEvent(Loans.class.getSimpleName(), String.valueOf(after.loanId),
+                    AuditEvent.Action.UPDATE, Map.of(
+                    "amountPaid", new AuditEvent.Change(before.amountPaid, after.amountPaid),
+                    "outstandingAmount", new AuditEvent.Change(before.outstandingAmount, after.outstandingAmount)),
+                    changedBy, changedAt));
+        }
+        Collections.reverse(events);
+        return events;
+    }
+
+    private static RepaymentDto parseCsv(String line) {
+
+        String[] columns = line.split(",");
+        if (columns.length != 2) {
+            throw new IllegalArgumentException("Expected loanNumber,amount");
+        }
+        return new RepaymentDto(columns[0].trim(), Integer.parseInt(columns[1].trim()));
+    }
+
+    private static RepaymentDto validate(RepaymentDto repayment) {
+
+        if (repayment == null || repayment.getLoanNumber() == null || repayment.getLoanNumber().isBlank()
+                || repayment.getAmount() <= 0) {
+            throw new IllegalArgumentException("Expected a loanNumber and a positive amount");
+        }
+        return repayment;
+    }
+
+    /**
+     * @param repayment - null for a row that is not a valid repayment
+     */
+    private record Row(long line, RepaymentDto repayment) {
+    }
+
+    private record Balance(long loanId, int amountPaid, int outstandingAmount) {
+    }
+
+}
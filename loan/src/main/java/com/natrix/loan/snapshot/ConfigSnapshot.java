@@ -0,0 +1,136 @@
+package com.natrix.loan.snapshot;
+
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.PropertyResolver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The properties last fetched from the config server, kept in a local file so the service can start
+ * from them without waiting for the config server. The file also names the profiles they were fetched
+ * for, a snapshot of other profiles is not used.
+ */
+public final class ConfigSnapshot {
+
+    /**
+     * Name of the property source the snapshot is loaded into at startup.
+     */
+    public static final String PROPERTY_SOURCE_NAME = "configSnapshot";
+
+    public static final String PATH_PROPERTY = "config-snapshot.path";
+
+    public static final String ENABLED_PROPERTY = "config-snapshot.enabled";
+
+    /**
+     * Written to the snapshot with the properties, the profiles they were fetched for.
+     */
+    public static final String PROFILES_PROPERTY = "config-snapshot.profiles";
+
+    private static final String DEFAULT_PATH = "config-snapshot/loan.properties";
+
+    private static final String CONFIG_SERVER_SOURCE_PREFIX = "configserver:";
+
+    private ConfigSnapshot() {
+    }
+
+    public static Path path(PropertyResolver propertyResolver) {
+
+        return Path.of(propertyResolver.getProperty(PATH_PROPERTY, DEFAULT_PATH));
+    }
+
+    /**
+     * @return the profiles the config server is asked for, comma separated
+     */
+    public static String profiles(Environment environment) {
+
+        String[] profiles = environment.getActiveProfiles();
+        return String.join(",", profiles.length > 0 ? profiles : environment.getDefaultProfiles());
+    }
+
+    /**
+     * @return the properties of all config server property sources, the ones of higher precedence winning,
+     * or an empty map if the environment has none
+     */
+    public static Map<String, String> fromConfigServer(ConfigurableEnvironment environment) {
+
+        Map<String, String> properties = new TreeMap<>();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            if (propertySource.getName().startsWith(CONFIG_SERVER_SOURCE_PREFIX)
+                    && propertySource instanceof EnumerablePropertySource<?> enumerable) {
+                for (String name : enumerable.getPropertyNames()) {
+                    Object value = enumerable.getProperty(name);
+                    if (value != null) {
+                        properties.putIfAbsent(name, value.toString());
+                    }
+                }
+            }
+        }
+        return properties;
+    }
+
+    public static Map<String, String> read(Path path) throws IOException {
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        Map<String, String> snapshot = new LinkedHashMap<>();
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            snapshot.put(name, properties.getProperty(name));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes to a file next to the snapshot and moves it over the snapshot, so a crash never leaves a
+     * half-written one. Decrypted secrets are part of the snapshot, so only the owner may read it.
+     */
+    public static void write(Path path, Map<String, String> snapshot) throws IOException {
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temporary, PosixFilePermissions.fromString("rw-------"));
+            }
+            Properties properties = new Properties();
+            properties.putAll(snapshot);
+            try (Writer writer = Files.newBufferedWriter(temporary)) {
+                properties.store(writer, "Last configuration fetched from the config server");
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @return the names of the properties that were added, removed or changed
+     */
+    public static Set<String> differences(Map<String, String> before, Map<String, String> after) {
+
+        Set<String> names = new TreeSet<>(before.keySet());
+        names.addAll(after.keySet());
+        names.removeIf(name -> Objects.equals(before.get(name), after.get(name)));
+        return names;
+    }
+
+}
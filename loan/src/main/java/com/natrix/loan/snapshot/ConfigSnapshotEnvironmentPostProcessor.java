@@ -0,0 +1,89 @@
+package com.natrix.loan.snapshot;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Starts the service from the config snapshot when there is one: its properties are added where the
+ * config server ones would be and the {@code configserver:} import is switched off for this start, so
+ * the config data phase does not wait for the config server. {@link ConfigSnapshotProfileCheck} drops
+ * it again if it was taken for other profiles, {@link ConfigSnapshotReconciler} fetches the current
+ * configuration once the service is up.
+ * <p>
+ * Runs before the config data is loaded, so {@code config-snapshot.*} is read from the command line,
+ * system properties or environment variables only.
+ */
+public class ConfigSnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * Refreshes run the post processors again on a copy of the environment, the snapshot is only for
+     * the start of the process.
+     */
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    private final Log log;
+
+    public ConfigSnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+
+        this.log = logFactory.getLog(ConfigSnapshotEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+
+        if (!STARTED.compareAndSet(false, true)
+                || !environment.getProperty(ConfigSnapshot.ENABLED_PROPERTY, Boolean.class, true)
+                || !environment.getProperty("spring.cloud.config.enabled", Boolean.class, true)) {
+            return;
+        }
+
+        Path path = ConfigSnapshot.path(environment);
+        if (!Files.isReadable(path)) {
+            this.log.info("No config snapshot at " + path + ", starting from the config server");
+            return;
+        }
+
+        Map<String, Object> properties = new HashMap<>();
+        try {
+            properties.putAll(ConfigSnapshot.read(path));
+        } catch (IOException | IllegalArgumentException ex) {
+            this.log.warn("Could not read the config snapshot " + path + ", starting from the config server", ex);
+            return;
+        }
+        Object profiles = properties.get(ConfigSnapshot.PROFILES_PROPERTY);
+        int count = properties.size() - (profiles != null ? 1 : 0);
+        // only for this start, the environment of a refresh does not keep this property source
+        properties.put("spring.cloud.config.enabled", "false");
+
+        MapPropertySource snapshot = new MapPropertySource(ConfigSnapshot.PROPERTY_SOURCE_NAME, properties);
+        if (environment.getPropertySources().contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            environment.getPropertySources()
+                    .addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, snapshot);
+        } else {
+            environment.getPropertySources().addLast(snapshot);
+        }
+        this.log.info("Starting from the config snapshot " + path + " of profiles " + profiles + " with " + count
+                + " properties");
+    }
+
+    @Override
+    public int getOrder() {
+
+        return ConfigDataEnvironmentPostProcessor.ORDER - 1;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.natrix.loan.snapshot;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.EnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * Drops the config snapshot when it was taken for other profiles than the ones the service runs with.
+ * Profiles activated in {@code application.yaml} are only known once the config data is loaded, so
+ * this runs after it. The service then starts without the config server properties and
+ * {@link ConfigSnapshotReconciler} fetches them once it is up.
+ */
+public class ConfigSnapshotProfileCheck implements EnvironmentPostProcessor, Ordered {
+
+    private final Log log;
+
+    public ConfigSnapshotProfileCheck(DeferredLogFactory logFactory) {
+
+        this.log = logFactory.getLog(ConfigSnapshotProfileCheck.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+
+        PropertySource<?> snapshot = environment.getPropertySources().get(ConfigSnapshot.PROPERTY_SOURCE_NAME);
+        if (snapshot == null) {
+            return;
+        }
+
+        Object snapshotProfiles = snapshot.getProperty(ConfigSnapshot.PROFILES_PROPERTY);
+        String profiles = ConfigSnapshot.profiles(environment);
+        if (!profiles.equals(snapshotProfiles)) {
+            environment.getPropertySources().remove(ConfigSnapshot.PROPERTY_SOURCE_NAME);
+            this.log.warn("Ignoring the config snapshot of profiles " + snapshotProfiles + ", running with "
+                    + profiles + ", the configuration is fetched from the config server once the service is up");
+        }
+    }
+
+    @Override
+    public int getOrder() {
+
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+
+}
@@ -0,0 +1,5 @@
+-- LoansRepository.findByMobileNumber, one loan per mobile number
+ALTER TABLE `loans` ADD CONSTRAINT `uk_loans_mobile_number` UNIQUE (`mobile_number`);
+
+-- LoansRepository.findByLoanNumber / existsByLoanNumber / repay
+ALTER TABLE `loans` ADD CONSTRAINT `uk_loans_loan_number` UNIQUE (`loan_number`);
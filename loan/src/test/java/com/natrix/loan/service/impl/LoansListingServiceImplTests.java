@@ -0,0 +1,142 @@
+package com.natrix.loan.service.impl;
+
+import com.natrix.loan.audit.AuditAwareImpl;
+import com.natrix.loan.dto.LoansDto;
+import com.natrix.loan.dto.LoansFilterDto;
+import com.natrix.loan.dto.LoansPageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({LoansListingServiceImpl.class, AuditAwareImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoansListingServiceImplTests {
+
+    private static final String HOME = "Home Loan";
+
+    private static final String VEHICLE = "Vehicle Loan";
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private LoansListingServiceImpl loansListingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteLoans() {
+
+        this.jdbcTemplate.update("DELETE FROM loans");
+    }
+
+    @Test
+    void pageFilledByTheLastRowsHasNoNextCursor() {
+
+        insert("100000000002", HOME, DAY);
+        long second = insert("100000000003", HOME, DAY);
+        insert("100000000004", HOME, DAY);
+        insert("100000000005", HOME, DAY);
+
+        LoansPageDto first = this.loansListingService.listLoans(new LoansFilterDto(), null, 2);
+        assertThat(loanNumbers(first.getContent())).containsExactly("100000000002", "100000000003");
+        assertThat(first.getNextCursor()).isEqualTo(second);
+
+        LoansPageDto last = this.loansListingService.listLoans(new LoansFilterDto(), first.getNextCursor(), 2);
+        assertThat(loanNumbers(last.getContent())).containsExactly("100000000004", "100000000005");
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorOfThePreviousPageIsExcluded() {
+
+        insert("100000000002", HOME, DAY);
+        insert("100000000003", HOME, DAY);
+        long third = insert("100000000004", HOME, DAY);
+
+        LoansPageDto next = this.loansListingService.listLoans(new LoansFilterDto(), third - 1, 5);
+
+        assertThat(loanNumbers(next.getContent())).containsExactly("100000000004");
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void typeAndCreationDaysFilterTheLoans() {
+
+        insert("100000000001", HOME, DAY.minusDays(1));
+        insert("100000000002", HOME, DAY);
+        insert("100000000003", VEHICLE, DAY);
+        insert("100000000004", HOME, DAY.plusDays(1));
+        insert("100000000005", HOME, DAY.plusDays(2));
+
+        LoansFilterDto filter = new LoansFilterDto();
+        filter.setLoanType(HOME);
+        filter.setCreatedFrom(DAY);
+        filter.setCreatedTo(DAY.plusDays(1));
+
+        // both days of the range are included
+        assertThat(loanNumbers(this.loansListingService.listLoans(filter, null, 10).getContent()))
+                .containsExactly("100000000002", "100000000004");
+
+        filter.setLoanType(" ");
+        assertThat(loanNumbers(this.loansListingService.listLoans(filter, null, 10).getContent()))
+                .containsExactly("100000000002", "100000000003", "100000000004");
+    }
+
+    @Test
+    void exportReturnsEveryLoanInCreationOrder() {
+
+        List<String> inserted = IntStream.range(0, 1200)
+                .mapToObj(i -> String.valueOf(999999999999L - i))
+                .toList();
+        this.jdbcTemplate.batchUpdate("INSERT INTO loans (mobile_number, loan_number, loan_type, total_loan, "
+                        + "amount_paid, outstanding_amount, created_at, created_by) VALUES (?, ?, ?, 100000, 0, 100000, ?, 'TEST')",
+                inserted, 500, (ps, loanNumber) -> {
+                    ps.setString(1, "09" + loanNumber.substring(4));
+                    ps.setString(2, loanNumber);
+                    ps.setString(3, HOME);
+                    ps.setDate(4, Date.valueOf(DAY));
+                });
+
+        List<LoansDto> exported = new ArrayList<>();
+        this.loansListingService.exportLoans(new LoansFilterDto(), exported::add);
+
+        assertThat(loanNumbers(exported)).containsExactlyElementsOf(inserted);
+    }
+
+    /**
+     * @return loan_id of the new loan
+     */
+    private long insert(String loanNumber, String loanType, LocalDate createdAt) {
+
+        this.jdbcTemplate.update("INSERT INTO loans (mobile_number, loan_number, loan_type, total_loan, amount_paid, "
+                        + "outstanding_amount, created_at, created_by) VALUES (?, ?, ?, 100000, 0, 100000, ?, 'TEST')",
+                "09" + loanNumber.substring(4), loanNumber, loanType, Date.valueOf(createdAt));
+        return this.jdbcTemplate.queryForObject("SELECT loan_id FROM loans WHERE loan_number = ?", Long.class,
+                loanNumber);
+    }
+
+    private static List<String> loanNumbers(List<LoansDto> loans) {
+
+        return loans.stream().map(LoansDto::getLoanNumber).toList();
+    }
+
+}
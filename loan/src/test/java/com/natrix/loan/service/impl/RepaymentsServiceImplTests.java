@@ -0,0 +1,117 @@
+package com.natrix.loan.service.impl;
+
+import com.natrix.loan.audit.AuditAwareImpl;
+import com.natrix.loan.audit.AuditEvent;
+import com.natrix.loan.audit.AuditTrail;
+import com.natrix.loan.constants.LoansConstants;
+import com.natrix.loan.dto.RepaymentResultDto;
+import com.natrix.loan.repository.LoansRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Import({RepaymentsServiceImpl.class, LoansServiceImpl.class, AuditAwareImpl.class,
+        RepaymentsServiceImplTests.JsonConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepaymentsServiceImplTests {
+
+    @Autowired
+    private RepaymentsServiceImpl repaymentsService;
+
+    @Autowired
+    private LoansServiceImpl loansService;
+
+    @Autowired
+    private LoansRepository loansRepository;
+
+    @MockitoBean
+    private AuditTrail auditTrail;
+
+    @AfterEach
+    void deleteLoans() {
+
+        this.loansRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void resultsFollowFileOrderWithInvalidRowsInPlace() throws IOException {
+
+        this.loansService.createLoan("0911000101");
+        String loanNumber = this.loansRepository.findByMobileNumber("0911000101").orElseThrow().getLoanNumber();
+        String csv = String.join("\n",
+                "loanNumber,amount",
+                loanNumber + ",100",
+                "not a repayment",
+                loanNumber + ",50",
+                "999999999999,10");
+
+        List<RepaymentResultDto> results = new ArrayList<>();
+        this.repaymentsService.applyRepayments(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                true, results::add);
+
+        assertThat(results)
+                .extracting(RepaymentResultDto::getLine, RepaymentResultDto::getStatus)
+                .containsExactly(
+                        tuple(2L, LoansConstants.REPAYMENT_APPLIED),
+                        tuple(3L, LoansConstants.REPAYMENT_INVALID),
+                        tuple(4L, LoansConstants.REPAYMENT_APPLIED),
+                        tuple(5L, LoansConstants.REPAYMENT_NOT_FOUND));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchRecordsOneAuditEventPerAppliedRow() throws IOException {
+
+        this.loansService.createLoan("0911000102");
+        String loanNumber = this.loansRepository.findByMobileNumber("0911000102").orElseThrow().getLoanNumber();
+        String csv = String.join("\n",
+                loanNumber + ",100",
+                "999999999999,10",
+                loanNumber + ",50");
+
+        this.repaymentsService.applyRepayments(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                true, result -> { });
+
+        ArgumentCaptor<List<AuditEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(this.auditTrail).recordAfterCommit(events.capture());
+        assertThat(events.getValue())
+                .extracting(event -> event.changes().get("amountPaid"), event -> event.changes().get("outstandingAmount"))
+                .containsExactly(
+                        tuple(new AuditEvent.Change(0, 100), new AuditEvent.Change(100000, 99900)),
+                        tuple(new AuditEvent.Change(100, 150), new AuditEvent.Change(99900, 99850)));
+    }
+
+    @TestConfiguration
+    static class JsonConfig {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+}